@@ -17,23 +17,34 @@
  */
 package io.ballerina.openapi.converter.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * This {@code OASResult} is used to contain OpenAPI definition in string format and error list.
  *
+ * The YAML and JSON forms of the definition are serialized once and reused, until a new definition is set. Hence the
+ * definition should not be modified after it is serialized, other than through {@link #setOpenAPI(OpenAPI)}.
+ *
  * @since 2.0.0
  */
 public class OASResult {
     private OpenAPI openAPI;
     private String serviceName; // added base path for key to definition
     private final List<OpenAPIConverterDiagnostic> diagnostics;
+    // serialized forms are transient, so that they are not sent again when the result itself is serialized
+    private transient String yaml;
+    private transient String json;
 
     /**
      * This constructor is used to store the details that Map of {@code OpenAPI} objects and diagnostic list.
@@ -55,19 +66,65 @@ public class OASResult {
         return this.serviceName;
     }
 
-    public Optional<String> getYaml() {
-        return Optional.ofNullable(Yaml.pretty(this.openAPI));
+    public synchronized Optional<String> getYaml() {
+        if (this.yaml == null) {
+            this.yaml = Yaml.pretty(this.openAPI);
+        }
+        return Optional.ofNullable(this.yaml);
+    }
+
+    public synchronized Optional<String> getJson() {
+        if (this.json == null) {
+            this.json = Json.pretty(this.openAPI);
+        }
+        return Optional.ofNullable(this.json);
+    }
+
+    /**
+     * Write the YAML form of the definition to the given stream. If the YAML form is not serialized already, it is
+     * streamed to the output without building it in memory. The stream is not closed.
+     *
+     * @param outputStream stream to write the definition to
+     * @throws IOException if the definition could not be written
+     */
+    public void writeYaml(OutputStream outputStream) throws IOException {
+        write(outputStream, getSerializedYaml(), Yaml.pretty());
+    }
+
+    /**
+     * Write the JSON form of the definition to the given stream. If the JSON form is not serialized already, it is
+     * streamed to the output without building it in memory. The stream is not closed.
+     *
+     * @param outputStream stream to write the definition to
+     * @throws IOException if the definition could not be written
+     */
+    public void writeJson(OutputStream outputStream) throws IOException {
+        write(outputStream, getSerializedJson(), Json.pretty());
+    }
+
+    private synchronized String getSerializedYaml() {
+        return this.yaml;
+    }
+
+    private synchronized String getSerializedJson() {
+        return this.json;
     }
 
-    public Optional<String> getJson() {
-        return Optional.ofNullable(Json.pretty(this.openAPI));
+    private void write(OutputStream outputStream, String serialized, ObjectWriter writer) throws IOException {
+        if (serialized != null) {
+            outputStream.write(serialized.getBytes(StandardCharsets.UTF_8));
+        } else {
+            writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, this.openAPI);
+        }
     }
 
     public void setServiceName(String serviceName) {
         this.serviceName = serviceName;
     }
 
-    public void setOpenAPI(OpenAPI openAPI) {
+    public synchronized void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.yaml = null;
+        this.json = null;
     }
 }
@@ -47,6 +47,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This util class for processing the mapping in between ballerina record and openAPI object schema.
@@ -55,6 +56,11 @@ import java.util.Optional;
  */
 public class OpenAPIComponentMapper {
     private final Components components;
+    /**
+     * Component names of the records this mapper has started to map. A record is registered here before its fields
+     * are mapped, so every record is walked once and recursive records terminate.
+     */
+    private final Set<String> visitedComponents = new HashSet<>();
 
     public OpenAPIComponentMapper(Components components) {
          this.components = components;
@@ -69,6 +75,9 @@ public class OpenAPIComponentMapper {
     public void createComponentSchema(Map<String, Schema> schema, TypeSymbol typeSymbol) {
         // Getting main record description
         String componentName = typeSymbol.getName().orElseThrow().trim();
+        if (isVisited(schema, componentName)) {
+            return;
+        }
         Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol, componentName);
         TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) typeSymbol;
         // Handle record type request body
@@ -80,13 +89,28 @@ public class OpenAPIComponentMapper {
             HashSet<String> unionKeys = new HashSet<>(rfields.keySet());
             if (typeInclusions.isEmpty()) {
                 // Handle like object
-                generateObjectSchemaFromRecordFields(schema, componentName, rfields, apiDocs);
+                ObjectSchema componentSchema = new ObjectSchema();
+                visitedComponents.add(componentName);
+                generateObjectSchemaFromRecordFields(schema, componentName, componentSchema, rfields, apiDocs);
             } else {
-                mapTypeInclusionToAllOfSchema(schema, componentName, typeInclusions, rfields, unionKeys, apiDocs);
+                ComposedSchema allOfSchema = new ComposedSchema();
+                visitedComponents.add(componentName);
+                mapTypeInclusionToAllOfSchema(schema, componentName, allOfSchema, typeInclusions, rfields, unionKeys,
+                        apiDocs);
             }
         }
     }
 
+    /**
+     * Check whether the given component is already mapped, or is being mapped further up in the current walk.
+     */
+    private boolean isVisited(Map<String, Schema> schema, String componentName) {
+        Map<String, Schema> componentSchemas = this.components.getSchemas();
+        return visitedComponents.contains(componentName) ||
+                (schema != null && schema.containsKey(componentName)) ||
+                (componentSchemas != null && componentSchemas.containsKey(componentName));
+    }
+
     /**
      * Creating API docs related to given record fields.
      */
@@ -118,12 +142,12 @@ public class OpenAPIComponentMapper {
     /**
      * This function is to map the ballerina typeInclusion to OAS allOf composedSchema.
      */
-    private void mapTypeInclusionToAllOfSchema(Map<String, Schema> schema,
-                                               String componentName, List<TypeSymbol> typeInclusions, Map<String,
-            RecordFieldSymbol> rfields, HashSet<String> unionKeys, Map<String, String> apiDocs) {
+    private void mapTypeInclusionToAllOfSchema(Map<String, Schema> schema, String componentName,
+                                               ComposedSchema allOfSchema, List<TypeSymbol> typeInclusions,
+                                               Map<String, RecordFieldSymbol> rfields, HashSet<String> unionKeys,
+                                               Map<String, String> apiDocs) {
 
         // Map to allOF need to check the status code inclusion there
-        ComposedSchema allOfSchema = new ComposedSchema();
         // Set schema
         List<Schema> allOfSchemaList = new ArrayList<>();
         for (TypeSymbol typeInclusion: typeInclusions) {
@@ -138,7 +162,12 @@ public class OpenAPIComponentMapper {
                     Map<String, RecordFieldSymbol> tInFields = typeInclusionRecord.fieldDescriptors();
                     unionKeys.addAll(tInFields.keySet());
                     unionKeys.removeAll(tInFields.keySet());
-                    generateObjectSchemaFromRecordFields(schema, typeInclusionName, tInFields, apiDocs);
+                    if (!isVisited(schema, typeInclusionName)) {
+                        ObjectSchema inclusionSchema = new ObjectSchema();
+                        visitedComponents.add(typeInclusionName);
+                        generateObjectSchemaFromRecordFields(schema, typeInclusionName, inclusionSchema, tInFields,
+                                apiDocs);
+                    }
                     // Update the schema value
                     schema = this.components.getSchemas();
                 }
@@ -147,7 +176,8 @@ public class OpenAPIComponentMapper {
         Map<String, RecordFieldSymbol> filteredField = new LinkedHashMap<>();
         rfields.forEach((key1, value) -> unionKeys.stream().filter(key -> key1.trim().equals(key)).forEach(key ->
                 filteredField.put(key1, value)));
-        ObjectSchema objectSchema = generateObjectSchemaFromRecordFields(schema, null, filteredField, apiDocs);
+        ObjectSchema objectSchema = generateObjectSchemaFromRecordFields(schema, null, new ObjectSchema(),
+                filteredField, apiDocs);
         allOfSchemaList.add(objectSchema);
         allOfSchema.setAllOf(allOfSchemaList);
         if (schema != null && !schema.containsKey(componentName)) {
@@ -162,13 +192,12 @@ public class OpenAPIComponentMapper {
     }
 
     /**
-     * This function is to map ballerina record type symbol to OAS objectSchema.
+     * This function is to map ballerina record type symbol fields to the given OAS objectSchema.
      */
     private ObjectSchema generateObjectSchemaFromRecordFields(Map<String, Schema> schema,
-                                                              String componentName, Map<String,
-                                                              RecordFieldSymbol> rfields,
+                                                              String componentName, ObjectSchema componentSchema,
+                                                              Map<String, RecordFieldSymbol> rfields,
                                                               Map<String, String> apiDocs) {
-        ObjectSchema componentSchema = new ObjectSchema();
         List<String> required = new ArrayList<>();
         componentSchema.setDescription(apiDocs.get(componentName));
         Map<String, Schema> schemaProperties = new LinkedHashMap<>();
@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.converter.utils;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -40,6 +41,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -92,15 +94,19 @@ public class ServiceToOpenAPIConverterUtils {
                         null, serviceName, availableService.toString());
                 diagnostics.add(error);
             }
-            // Generating for the services
+            // File names are resolved up front, since resolving a duplicate name may prompt the user
+            List<String> openApiNames = new ArrayList<>();
             for (ServiceDeclarationNode serviceNode : servicesToGenerate) {
                 String serviceNodeName = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServiceBasePath(serviceNode);
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNodeName, needJson);
                 //  Checked old generated file with same name
-                openApiName = checkDuplicateFiles(outPath, openApiName, needJson);
-                OASResult oasDefinition = generateOAS(serviceNode, endpoints, semanticModel, openApiName);
-                oasDefinition.setServiceName(openApiName);
-                outputs.add(oasDefinition);
+                openApiNames.add(checkDuplicateFiles(outPath, openApiName, needJson));
+            }
+            // Generating for the services, on the calling thread since the semantic model is not safe to query
+            // from several threads at once
+            for (int i = 0; i < servicesToGenerate.size(); i++) {
+                outputs.add(generateServiceOAS(servicesToGenerate.get(i), endpoints, semanticModel,
+                        openApiNames.get(i)));
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -110,6 +116,14 @@ public class ServiceToOpenAPIConverterUtils {
         return outputs;
     }
 
+    private static OASResult generateServiceOAS(ServiceDeclarationNode serviceNode,
+                                                List<ListenerDeclarationNode> endpoints, SemanticModel semanticModel,
+                                                String openApiName) {
+        OASResult oasDefinition = generateOAS(serviceNode, endpoints, semanticModel, openApiName);
+        oasDefinition.setServiceName(openApiName);
+        return oasDefinition;
+    }
+
     private static boolean containErrors(List<Diagnostic> diagnostics) {
         return diagnostics != null && diagnostics.stream().anyMatch(diagnostic ->
                 diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR);
@@ -179,6 +193,42 @@ public class ServiceToOpenAPIConverterUtils {
         return "Error while generating openAPI contract";
     }
 
+    /**
+     * Generate the openAPI definition of the given service as minified JSON, which is meant to be embedded and served
+     * as it is.
+     *
+     * @param serviceDeclarationNode Service Node related to ballerina service
+     * @param endpoints              Listener endpoints that bind to service
+     * @param semanticModel          Semantic model for given ballerina file
+     * @param openApiName            Service name for title
+     * @return minified JSON of the openAPI definition, empty if the definition could not be generated
+     * @throws IOException if the generated definition could not be serialized
+     */
+    public static Optional<String> generateMinifiedOAS(ServiceDeclarationNode serviceDeclarationNode,
+                                                       List<ListenerDeclarationNode> endpoints,
+                                                       SemanticModel semanticModel, String openApiName)
+            throws IOException {
+        Optional<OpenAPI> openapi = generateOAS(serviceDeclarationNode, endpoints, semanticModel, openApiName)
+                .getOpenAPI();
+        if (openapi.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Json.mapper().writeValueAsString(openapi.get()));
+    }
+
+    /**
+     * Convert the given openAPI contract to minified JSON, keeping the order of the fields in the contract.
+     *
+     * @param contract openAPI contract content
+     * @param isJson   whether the contract is in JSON format, YAML otherwise
+     * @return minified JSON of the contract
+     * @throws IOException if the contract could not be parsed
+     */
+    public static String minifyOpenAPIContract(String contract, boolean isJson) throws IOException {
+        JsonNode contractNode = isJson ? Json.mapper().readTree(contract) : Yaml.mapper().readTree(contract);
+        return Json.mapper().writeValueAsString(contractNode);
+    }
+
     /**
      * Provides an instance of {@code OASResult}, which contains the generated contract as well as
      * all the diagnostics information.
@@ -250,8 +300,13 @@ public class ServiceToOpenAPIConverterUtils {
 
     /**
      * Generate file name with service basePath.
+     *
+     * @param servicePath path of the ballerina file of the service
+     * @param serviceName base path of the service
+     * @param isJson      flag for the JSON file extension, YAML otherwise
+     * @return file name of the openAPI definition of the service
      */
-    private static String getOpenApiFileName(String servicePath, String serviceName, boolean isJson) {
+    public static String getOpenApiFileName(String servicePath, String serviceName, boolean isJson) {
 
         String cleanedServiceName;
         if (serviceName.isBlank() || serviceName.equals("/")) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.openapi.converter.service.OASResult;
+import io.ballerina.openapi.converter.service.OpenAPIComponentMapper;
+import io.ballerina.openapi.converter.service.OpenAPIResponseMapper;
+import io.ballerina.openapi.converter.service.OpenAPIServiceMapper;
+import io.ballerina.openapi.converter.service.OperationAdaptor;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks for the stages of the Ballerina service to OpenAPI conversion. Subclasses provide the compiled service
+ * through {@link #setFixture(ServiceFixture)} in their trial setup.
+ */
+public abstract class AbstractConversionBenchmark {
+    private ServiceFixture fixture;
+    private OpenAPI openAPI;
+
+    protected void setFixture(ServiceFixture fixture) {
+        this.fixture = fixture;
+        this.openAPI = ServiceToOpenAPIConverterUtils.generateOAS(fixture.getServiceNode(), fixture.getEndpoints(),
+                fixture.getSemanticModel(), "benchmark").getOpenAPI().orElseThrow();
+    }
+
+    @Benchmark
+    public List<OASResult> generateOAS3Definition() {
+        return ServiceToOpenAPIConverterUtils.generateOAS3Definition(fixture.getSyntaxTree(),
+                fixture.getSemanticModel(), null, false, null);
+    }
+
+    @Benchmark
+    public OpenAPI convertServiceToOpenAPI() {
+        OpenAPIServiceMapper serviceMapper = new OpenAPIServiceMapper(fixture.getSemanticModel());
+        return serviceMapper.convertServiceToOpenAPI(fixture.getServiceNode(), new OpenAPI());
+    }
+
+    @Benchmark
+    public Map<String, Schema> createComponentSchema() {
+        Map<String, Schema> schemas = new HashMap<>();
+        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(new Components());
+        for (TypeSymbol recordType : fixture.getRecordTypes()) {
+            componentMapper.createComponentSchema(schemas, recordType);
+        }
+        return schemas;
+    }
+
+    @Benchmark
+    public void getResourceOutput(Blackhole blackhole) {
+        OpenAPIResponseMapper responseMapper = new OpenAPIResponseMapper(fixture.getSemanticModel(),
+                new Components(), fixture.getServiceNode().location());
+        for (FunctionDefinitionNode resource : fixture.getResources()) {
+            OperationAdaptor operationAdaptor = new OperationAdaptor();
+            operationAdaptor.setHttpOperation(resource.functionName().text().trim());
+            operationAdaptor.setPath("/");
+            responseMapper.getResourceOutput(resource, operationAdaptor);
+            Operation operation = operationAdaptor.getOperation();
+            blackhole.consume(operation.getResponses());
+        }
+    }
+
+    @Benchmark
+    public String serializeYaml() {
+        return Yaml.pretty(openAPI);
+    }
+
+    @Benchmark
+    public String serializeJson() {
+        return Json.pretty(openAPI);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Utilities shared among the benchmarks.
+ */
+public final class BenchmarkUtils {
+    private static final String RESOURCES_PROPERTY = "openapi.benchmark.resources";
+    private static final String DEFAULT_RESOURCES = "../openapi-cli/src/test/resources";
+
+    private BenchmarkUtils() {
+    }
+
+    /**
+     * Resolve a benchmark fixture from the directory given by the {@code openapi.benchmark.resources} system
+     * property, falling back to the openapi-cli test resources relative to the benchmark module.
+     *
+     * @param fileName path of the fixture relative to the resources directory
+     * @return path of the fixture
+     */
+    public static Path getResourcePath(String fileName) {
+        Path resourcePath = Paths.get(System.getProperty(RESOURCES_PROPERTY, DEFAULT_RESOURCES), fileName);
+        if (!Files.exists(resourcePath)) {
+            throw new IllegalStateException("Benchmark resource not found: " + resourcePath.toAbsolutePath());
+        }
+        return resourcePath;
+    }
+}
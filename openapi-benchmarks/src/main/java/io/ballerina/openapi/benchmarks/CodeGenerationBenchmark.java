@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the stages of the OpenAPI contract to Ballerina client generation in {@link CodeGenerator}, run
+ * against the large vendor contracts in the client generator test resources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CodeGenerationBenchmark {
+    private static final String CONTRACTS_DIR = "generators/client/file_provider/swagger/";
+
+    @Param({"jira_openapi.yaml", "sendgrid.yaml", "bitBucket.yaml"})
+    public String contract;
+
+    private String contractContent;
+    private OpenAPI openAPI;
+    private BallerinaClientGenerator clientGenerator;
+    private SyntaxTree clientSyntaxTree;
+    private SyntaxTree schemaSyntaxTree;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, BallerinaOpenApiException {
+        contractContent = Files.readString(BenchmarkUtils.getResourcePath(CONTRACTS_DIR + contract));
+        openAPI = parseAndNormalize(contractContent);
+        clientGenerator = newClientGenerator(openAPI);
+        clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        schemaSyntaxTree = new BallerinaSchemaGenerator(openAPI, false).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public OpenAPI parse() {
+        return GeneratorUtils.parseOpenAPIContent(contractContent).getOpenAPI();
+    }
+
+    @Benchmark
+    public OpenAPI normalizeOpenAPI(ParsedContract parsedContract) throws BallerinaOpenApiException {
+        return new CodeGenerator().normalizeOpenAPI(parsedContract.openAPI, true);
+    }
+
+    @Benchmark
+    public SyntaxTree generateClientSyntaxTree() throws BallerinaOpenApiException {
+        return newClientGenerator(openAPI).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateSchemaSyntaxTree() throws BallerinaOpenApiException {
+        return new BallerinaSchemaGenerator(openAPI, false).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree generateTestSyntaxTree() throws IOException, BallerinaOpenApiException {
+        return new BallerinaTestGenerator(clientGenerator).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree formatClient() throws FormatterException {
+        return Formatter.format(clientSyntaxTree);
+    }
+
+    @Benchmark
+    public SyntaxTree formatSchema() throws FormatterException {
+        return Formatter.format(schemaSyntaxTree);
+    }
+
+    /**
+     * Freshly parsed contract for each invocation, as normalization modifies the model in place.
+     */
+    @State(Scope.Thread)
+    public static class ParsedContract {
+        private OpenAPI openAPI;
+
+        @Setup(Level.Invocation)
+        public void setUp(CodeGenerationBenchmark benchmark) {
+            openAPI = GeneratorUtils.parseOpenAPIContent(benchmark.contractContent).getOpenAPI();
+        }
+    }
+
+    private static OpenAPI parseAndNormalize(String content) throws BallerinaOpenApiException {
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIContent(content);
+        if (parseResult.getOpenAPI() == null) {
+            throw new BallerinaOpenApiException("Benchmark contract has errors: " + parseResult.getMessages());
+        }
+        return new CodeGenerator().normalizeOpenAPI(parseResult.getOpenAPI(), true);
+    }
+
+    private static BallerinaClientGenerator newClientGenerator(OpenAPI openAPI) {
+        return new BallerinaClientGenerator(openAPI, new Filter(new ArrayList<>(), new ArrayList<>()), false);
+    }
+}
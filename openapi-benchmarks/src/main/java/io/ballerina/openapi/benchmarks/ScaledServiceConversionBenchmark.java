@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ballerina to OpenAPI conversion benchmarks over synthetic services, to see how the conversion scales with the
+ * number of resources and the depth of the record graph they use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ScaledServiceConversionBenchmark extends AbstractConversionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int resourceCount;
+
+    /**
+     * Each record refers to the next one through a field and an array field, so the record graph has
+     * {@code recordDepth} levels with two references between consecutive levels.
+     */
+    @Param({"1", "8"})
+    public int recordDepth;
+
+    private Path serviceDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serviceDir = Files.createTempDirectory("openapi-benchmark");
+        Path serviceFile = serviceDir.resolve("service.bal");
+        Files.writeString(serviceFile, generateService(resourceCount, recordDepth));
+        setFixture(ServiceFixture.load(serviceFile));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(serviceDir.resolve("service.bal"));
+        Files.deleteIfExists(serviceDir);
+    }
+
+    /**
+     * Generate a service with the given number of resources. Even resources return the root record for a path and
+     * query parameter, odd resources accept it as the payload.
+     */
+    static String generateService(int resourceCount, int recordDepth) {
+        StringBuilder source = new StringBuilder("import ballerina/http;\n\n");
+        for (int level = 0; level < recordDepth; level++) {
+            source.append("# Record at level ").append(level).append(" of the record graph\n")
+                    .append("type Record").append(level).append(" record {|\n")
+                    .append("    # Identifier of the record\n")
+                    .append("    int id;\n")
+                    .append("    string name;\n")
+                    .append("    string[] tags;\n");
+            if (level + 1 < recordDepth) {
+                source.append("    Record").append(level + 1).append(" child;\n")
+                        .append("    Record").append(level + 1).append("[] children;\n");
+            }
+            source.append("|};\n\n");
+        }
+        source.append("listener http:Listener ep = new (9090);\n\n")
+                .append("service /synthetic on ep {\n");
+        for (int index = 0; index < resourceCount; index++) {
+            if (index % 2 == 0) {
+                source.append("    resource function get items").append(index)
+                        .append("/[int id](string? filter, int 'limit = 10) returns Record0|error {\n")
+                        .append("        return error(\"not implemented\");\n")
+                        .append("    }\n\n");
+            } else {
+                source.append("    resource function post items").append(index)
+                        .append("(@http:Payload Record0 payload) returns Record0|error {\n")
+                        .append("        return payload;\n")
+                        .append("    }\n\n");
+            }
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled Ballerina service used as the input of the Ballerina to OpenAPI benchmarks. Loading and compiling the
+ * project is done once, so that the benchmarks only measure the conversion.
+ */
+public final class ServiceFixture {
+    private final SyntaxTree syntaxTree;
+    private final SemanticModel semanticModel;
+    private final ServiceDeclarationNode serviceNode;
+    private final List<ListenerDeclarationNode> endpoints;
+    private final List<FunctionDefinitionNode> resources;
+    private final List<TypeSymbol> recordTypes;
+
+    private ServiceFixture(SyntaxTree syntaxTree, SemanticModel semanticModel, ServiceDeclarationNode serviceNode,
+                           List<ListenerDeclarationNode> endpoints) {
+        this.syntaxTree = syntaxTree;
+        this.semanticModel = semanticModel;
+        this.serviceNode = serviceNode;
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        List<FunctionDefinitionNode> resourceFunctions = new ArrayList<>();
+        for (Node member : serviceNode.members()) {
+            if (member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                resourceFunctions.add((FunctionDefinitionNode) member);
+            }
+        }
+        this.resources = Collections.unmodifiableList(resourceFunctions);
+        this.recordTypes = Collections.unmodifiableList(collectRecordTypes(semanticModel, resourceFunctions));
+    }
+
+    /**
+     * Load and compile the single file project of the given Ballerina source and pick its first service.
+     *
+     * @param balFilePath path of the Ballerina source file
+     * @return compiled fixture
+     */
+    public static ServiceFixture load(Path balFilePath) {
+        Project project = ProjectLoader.loadProject(balFilePath);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+
+        ServiceDeclarationNode serviceNode = null;
+        List<ListenerDeclarationNode> endpoints = new ArrayList<>();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (Node node : modulePartNode.members()) {
+            if (node.kind() == SyntaxKind.LISTENER_DECLARATION) {
+                endpoints.add((ListenerDeclarationNode) node);
+            } else if (node.kind() == SyntaxKind.SERVICE_DECLARATION && serviceNode == null) {
+                serviceNode = (ServiceDeclarationNode) node;
+            }
+        }
+        if (serviceNode == null) {
+            throw new IllegalStateException("No service found in benchmark fixture: " + balFilePath);
+        }
+        return new ServiceFixture(syntaxTree, semanticModel, serviceNode, endpoints);
+    }
+
+    public SyntaxTree getSyntaxTree() {
+        return syntaxTree;
+    }
+
+    public SemanticModel getSemanticModel() {
+        return semanticModel;
+    }
+
+    public ServiceDeclarationNode getServiceNode() {
+        return serviceNode;
+    }
+
+    public List<ListenerDeclarationNode> getEndpoints() {
+        return endpoints;
+    }
+
+    public List<FunctionDefinitionNode> getResources() {
+        return resources;
+    }
+
+    /**
+     * Record type references used directly in the resource signatures, which are the entry points of the component
+     * schema mapping.
+     *
+     * @return list of record type references
+     */
+    public List<TypeSymbol> getRecordTypes() {
+        return recordTypes;
+    }
+
+    private static List<TypeSymbol> collectRecordTypes(SemanticModel semanticModel,
+                                                       List<FunctionDefinitionNode> resources) {
+        Map<String, TypeSymbol> recordTypes = new LinkedHashMap<>();
+        for (FunctionDefinitionNode resource : resources) {
+            Optional<Symbol> symbol = semanticModel.symbol(resource);
+            if (symbol.isEmpty() || !(symbol.get() instanceof MethodSymbol)) {
+                continue;
+            }
+            FunctionTypeSymbol functionType = ((MethodSymbol) symbol.get()).typeDescriptor();
+            if (functionType.params().isPresent()) {
+                for (ParameterSymbol parameter : functionType.params().get()) {
+                    addRecordTypes(parameter.typeDescriptor(), recordTypes);
+                }
+            }
+            functionType.returnTypeDescriptor().ifPresent(returnType -> addRecordTypes(returnType, recordTypes));
+        }
+        return new ArrayList<>(recordTypes.values());
+    }
+
+    private static void addRecordTypes(TypeSymbol typeSymbol, Map<String, TypeSymbol> recordTypes) {
+        if (typeSymbol instanceof UnionTypeSymbol) {
+            for (TypeSymbol member : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                addRecordTypes(member, recordTypes);
+            }
+        } else if (typeSymbol instanceof ArrayTypeSymbol) {
+            addRecordTypes(((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor(), recordTypes);
+        } else if (typeSymbol instanceof TypeReferenceTypeSymbol &&
+                ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor() instanceof RecordTypeSymbol &&
+                typeSymbol.getName().isPresent()) {
+            recordTypes.putIfAbsent(typeSymbol.getName().get(), typeSymbol);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.cmd.model.BatchContract;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.GeneratorConstants;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.generators.GeneratorConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.generators.GeneratorConstants.YML_EXTENSION;
+
+/**
+ * This class generates the Ballerina sources of many OpenAPI contracts in one run. The contracts are generated
+ * concurrently, so the JVM start up and the warm up of the parser and the formatter are paid once for all of them.
+ * <p>
+ * The contracts are given either as a directory, where every contract is generated with the settings given in the
+ * command, or as a YAML or JSON manifest, where each contract can override them. The paths of a manifest are relative
+ * to the manifest.
+ * <pre>
+ * contracts:
+ *   - contract: specs/petstore.yaml
+ *     output: clients/petstore
+ *     mode: client
+ *     tags: [pets]
+ *     operations: [listPets]
+ *     nullable: true
+ *     parallel: true
+ *     staticSerialization: true
+ *     serviceName: petstore
+ * </pre>
+ */
+public class BatchGenerator {
+    private static final String CONTRACTS = "contracts";
+    private static final String CONTRACT = "contract";
+    private static final String OUTPUT = "output";
+    private static final String MODE = "mode";
+    private static final String TAGS = "tags";
+    private static final String OPERATIONS = "operations";
+    private static final String NULLABLE = "nullable";
+    private static final String PARALLEL = "parallel";
+    private static final String STATIC_SERIALIZATION = "staticSerialization";
+    private static final String SERVICE_NAME = "serviceName";
+    private static final String SERVICE_MODE = "service";
+    private static final String CLIENT_MODE = "client";
+
+    private final PrintStream outStream;
+    private final String licenseHeader;
+
+    public BatchGenerator(PrintStream outStream, String licenseHeader) {
+        this.outStream = outStream;
+        this.licenseHeader = licenseHeader;
+    }
+
+    /**
+     * Read the contracts of a batch generation from a directory of contracts or from a manifest.
+     *
+     * @param batchPath  directory of contracts or manifest file
+     * @param outputPath output path of the command, each contract without an output is generated into a directory
+     *                   named after the contract inside it
+     * @param mode       default generation mode, null to generate both the service and the client
+     * @param filter     default tags and operations
+     * @param nullable   default nullable setting
+     * @param parallel   default setting of the concurrent generation of the types of a contract
+     * @param staticSerialization default setting of the static serialization of query parameters and headers
+     * @return contracts of the batch in the order given
+     * @throws IOException               when the directory or the manifest cannot be read
+     * @throws BallerinaOpenApiException when the manifest is invalid, or two contracts have the same output path
+     */
+    public static List<BatchContract> readContracts(Path batchPath, Path outputPath, String mode, Filter filter,
+                                                    boolean nullable, boolean parallel, boolean staticSerialization)
+            throws IOException, BallerinaOpenApiException {
+        List<BatchContract> contracts = new ArrayList<>();
+        if (Files.isDirectory(batchPath)) {
+            List<Path> contractPaths;
+            try (Stream<Path> paths = Files.list(batchPath)) {
+                contractPaths = paths.filter(BatchGenerator::isContract).sorted().collect(Collectors.toList());
+            }
+            for (Path contractPath : contractPaths) {
+                String name = getContractName(contractPath);
+                contracts.add(new BatchContract(contractPath, outputPath.resolve(name), mode, filter.getTags(),
+                        filter.getOperations(), nullable, parallel, staticSerialization, name));
+            }
+            checkOutputPaths(contracts);
+            return contracts;
+        }
+
+        JsonNode manifest = batchPath.toString().endsWith(JSON_EXTENSION) ?
+                Json.mapper().readTree(batchPath.toFile()) : Yaml.mapper().readTree(batchPath.toFile());
+        if (manifest == null || !manifest.path(CONTRACTS).isArray()) {
+            throw new BallerinaOpenApiException("Batch manifest " + batchPath + " does not contain a '" + CONTRACTS +
+                    "' list.");
+        }
+        Path manifestDir = batchPath.toAbsolutePath().getParent();
+        int index = 0;
+        for (JsonNode entry : manifest.path(CONTRACTS)) {
+            index++;
+            if (!entry.path(CONTRACT).isTextual()) {
+                throw new BallerinaOpenApiException("Entry " + index + " of the batch manifest " + batchPath +
+                        " does not have a '" + CONTRACT + "'.");
+            }
+            Path contractPath = manifestDir.resolve(entry.get(CONTRACT).asText()).normalize();
+            String name = entry.path(SERVICE_NAME).isTextual() ? entry.get(SERVICE_NAME).asText() :
+                    getContractName(contractPath);
+            Path contractOutputPath = entry.path(OUTPUT).isTextual() ?
+                    manifestDir.resolve(entry.get(OUTPUT).asText()).normalize() :
+                    outputPath.resolve(getContractName(contractPath));
+            String contractMode = entry.path(MODE).isTextual() ? entry.get(MODE).asText() : mode;
+            List<String> tags = entry.has(TAGS) ? getValues(entry.get(TAGS)) : filter.getTags();
+            List<String> operations = entry.has(OPERATIONS) ? getValues(entry.get(OPERATIONS)) :
+                    filter.getOperations();
+            boolean contractNullable = entry.path(NULLABLE).isBoolean() ? entry.get(NULLABLE).asBoolean() : nullable;
+            boolean contractParallel = entry.path(PARALLEL).isBoolean() ? entry.get(PARALLEL).asBoolean() : parallel;
+            boolean contractStaticSerialization = entry.path(STATIC_SERIALIZATION).isBoolean() ?
+                    entry.get(STATIC_SERIALIZATION).asBoolean() : staticSerialization;
+            contracts.add(new BatchContract(contractPath, contractOutputPath, contractMode, tags, operations,
+                    contractNullable, contractParallel, contractStaticSerialization, name));
+        }
+        checkOutputPaths(contracts);
+        return contracts;
+    }
+
+    /**
+     * Check that no two contracts are generated into the same output directory, since they would overwrite the
+     * sources of each other while being generated concurrently.
+     */
+    private static void checkOutputPaths(List<BatchContract> contracts) throws BallerinaOpenApiException {
+        Map<Path, Path> contractsByOutput = new HashMap<>();
+        for (BatchContract contract : contracts) {
+            Path outputPath = contract.getOutputPath().toAbsolutePath().normalize();
+            Path otherContractPath = contractsByOutput.putIfAbsent(outputPath, contract.getContractPath());
+            if (otherContractPath != null) {
+                throw new BallerinaOpenApiException("The contracts " + otherContractPath + " and " +
+                        contract.getContractPath() + " are both generated into " + outputPath +
+                        ". Give one of them a different '" + OUTPUT + "' in a batch manifest.");
+            }
+        }
+    }
+
+    /**
+     * Generate the given contracts concurrently and print the time taken by each of them.
+     *
+     * @param contracts contracts of the batch
+     * @return true if all the contracts were generated
+     */
+    public boolean generate(List<BatchContract> contracts) {
+        if (contracts.isEmpty()) {
+            outStream.println("No OpenAPI contracts found to generate.");
+            return false;
+        }
+        long startTime = System.nanoTime();
+        int poolSize = Math.min(contracts.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<ContractResult>> futures = new ArrayList<>();
+            for (BatchContract contract : contracts) {
+                futures.add(executor.submit(() -> generateContract(contract)));
+            }
+            int generatedCount = 0;
+            outStream.println("Batch generation summary:");
+            for (int i = 0; i < contracts.size(); i++) {
+                BatchContract contract = contracts.get(i);
+                ContractResult result = futures.get(i).get();
+                String mode = contract.getMode() == null ? "service and client" : contract.getMode();
+                StringBuilder line = new StringBuilder("-- ").append(contract.getContractPath().getFileName())
+                        .append(" (").append(mode).append(") ").append(result.elapsedMillis).append(" ms");
+                if (result.error == null) {
+                    generatedCount++;
+                } else {
+                    line.append(" FAILED: ").append(result.error);
+                }
+                outStream.println(line);
+            }
+            long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            outStream.println("Generated " + generatedCount + " of " + contracts.size() + " contracts in " +
+                    totalMillis + " ms.");
+            return generatedCount == contracts.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outStream.println("Batch generation was interrupted.");
+            return false;
+        } catch (ExecutionException e) {
+            // generateContract reports its failures in the result, hence this is not expected
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ContractResult generateContract(BatchContract contract) {
+        long startTime = System.nanoTime();
+        String error = null;
+        try {
+            CodeGenerator generator = new CodeGenerator();
+            generator.setLicenseHeader(licenseHeader);
+            generator.setParallel(contract.isParallel());
+            generator.setStaticSerialization(contract.isStaticSerialization());
+            // the contracts are reported once all of them are done
+            generator.setInteractive(false);
+            Files.createDirectories(contract.getOutputPath());
+            Filter filter = new Filter(contract.getTags(), contract.getOperations());
+            String contractPath = contract.getContractPath().toString();
+            String outputPath = contract.getOutputPath().toString();
+            if (contract.getMode() == null) {
+                generator.generateBothFiles(GeneratorConstants.GenType.GEN_BOTH, contractPath,
+                        contract.getServiceName(), outputPath, filter, contract.isNullable());
+            } else if (contract.getMode().equals(SERVICE_MODE)) {
+                generator.generateService(contractPath, contract.getServiceName(), outputPath, filter,
+                        contract.isNullable());
+            } else if (contract.getMode().equals(CLIENT_MODE)) {
+                generator.generateClient(contractPath, contract.getServiceName(), outputPath, filter,
+                        contract.isNullable());
+            } else {
+                error = "Unknown mode '" + contract.getMode() + "'.";
+            }
+        } catch (IOException | BallerinaOpenApiException | FormatterException | RuntimeException e) {
+            // a failing contract must not stop the other contracts of the batch
+            error = e.getLocalizedMessage() != null ? e.getLocalizedMessage() : e.getClass().getSimpleName();
+        }
+        return new ContractResult(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), error);
+    }
+
+    private static boolean isContract(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return Files.isRegularFile(path) && (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(YML_EXTENSION) ||
+                fileName.endsWith(JSON_EXTENSION));
+    }
+
+    // only the extension is stripped, so that the name of `api.v1.yaml` is `api.v1`
+    private static String getContractName(Path contractPath) {
+        String fileName = contractPath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
+    // tags and operations are given either as a list or as a comma separated string
+    private static List<String> getValues(JsonNode node) {
+        List<String> values = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(value -> values.add(value.asText()));
+        } else if (node.isTextual()) {
+            values.addAll(Arrays.asList(node.asText().split(",")));
+        }
+        return values;
+    }
+
+    /**
+     * Outcome of the generation of a contract, the error is null when the contract was generated.
+     */
+    private static class ContractResult {
+        private final long elapsedMillis;
+        private final String error;
+
+        ContractResult(long elapsedMillis, String error) {
+            this.elapsedMillis = elapsedMillis;
+            this.error = error;
+        }
+    }
+}
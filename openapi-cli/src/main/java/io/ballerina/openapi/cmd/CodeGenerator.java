@@ -25,15 +25,16 @@ import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.helper.StringHelpers;
 import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
 import com.github.jknack.handlebars.io.FileTemplateLoader;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.cmd.model.GenSrcFile;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
@@ -41,53 +42,50 @@ import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.GeneratorUtils;
 import io.ballerina.openapi.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.generators.client.BallerinaTestGenerator;
-import io.ballerina.openapi.generators.client.BallerinaUtilGenerator;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.ballerina.openapi.generators.service.BallerinaServiceGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
-import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static io.ballerina.openapi.generators.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.generators.GeneratorConstants.BALLERINA_TOML_CONTENT;
 import static io.ballerina.openapi.generators.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.DEFAULT_CLIENT_PKG;
@@ -98,16 +96,15 @@ import static io.ballerina.openapi.generators.GeneratorConstants.GET;
 import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_SERVICE;
 import static io.ballerina.openapi.generators.GeneratorConstants.HEAD;
-import static io.ballerina.openapi.generators.GeneratorConstants.IDENTIFIER;
 import static io.ballerina.openapi.generators.GeneratorConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEMPLATES_DIR_PATH_KEY;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEMPLATES_SUFFIX;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEST_DIR;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEST_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.TYPE_FILE_NAME;
-import static io.ballerina.openapi.generators.GeneratorConstants.TYPE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.UNTITLED_SERVICE;
 import static io.ballerina.openapi.generators.GeneratorConstants.UTIL_FILE_NAME;
+import static io.ballerina.openapi.generators.GeneratorUtils.getSchemasWithValidNames;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.generators.GeneratorUtils.setGeneratedFileName;
 
@@ -117,9 +114,13 @@ import static io.ballerina.openapi.generators.GeneratorUtils.setGeneratedFileNam
 public class CodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
+    private boolean interactive = true;
+    private boolean parallel;
+    private boolean staticSerialization;
 
     private static final PrintStream outStream = System.err;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    // the client has at most four sources to format and five files to write
+    private static final int MAX_POOL_SIZE = 4;
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -144,8 +145,13 @@ public class CodeGenerator {
 
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        GenerationManifest manifest = createGenerationManifest(type, definitionPath, serviceName, filter, nullable);
+        GenerationManifest previousManifest = GenerationManifest.read(srcPath).orElse(null);
+        if (isUpToDate(manifest, previousManifest, srcPath)) {
+            return;
+        }
         List<GenSrcFile> genFiles = generateBalSource(type, definitionPath, serviceName, filter, nullable);
-        writeGeneratedSources(genFiles, srcPath, implPath, type);
+        writeGeneratedSources(genFiles, srcPath, implPath, type, manifest, previousManifest);
     }
 
     public void generateBothFiles(GeneratorConstants.GenType type, String definitionPath, String serviceName,
@@ -153,14 +159,52 @@ public class CodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genSrcFiles = generateBalSource(GEN_SERVICE, definitionPath, serviceName, filter, nullable)
-                .stream().filter(genSrcFile -> !genSrcFile.getFileName().equals(TYPE_FILE_NAME))
-                        .collect(Collectors.toList());
-        genSrcFiles.addAll(generateBalSource(GEN_CLIENT, definitionPath, serviceName, filter,
-                nullable));
+        GenerationManifest manifest = createGenerationManifest(type, definitionPath, serviceName, filter, nullable);
+        GenerationManifest previousManifest = GenerationManifest.read(srcPath).orElse(null);
+        if (isUpToDate(manifest, previousManifest, srcPath)) {
+            return;
+        }
+        OpenAPI openAPI = parseOpenAPIDefinition(definitionPath, serviceName);
+        // Service generation fills the missing operationIds, hence it works on a view of the parsed definition so that
+        // the client generation still validates the operationIds given in the contract.
+        List<GenSrcFile> genSrcFiles = generateBalSource(GEN_SERVICE, GeneratorUtils.getOpenAPIView(openAPI),
+                serviceName, filter, nullable).stream()
+                .filter(genSrcFile -> !genSrcFile.getFileName().equals(TYPE_FILE_NAME))
+                .collect(Collectors.toList());
+        genSrcFiles.addAll(generateBalSource(GEN_CLIENT, openAPI, serviceName, filter, nullable));
         List<GenSrcFile> newGenFiles = genSrcFiles.stream().filter(distinctByKey(
                 GenSrcFile::getFileName)).collect(Collectors.toList());
-        writeGeneratedSources(newGenFiles, srcPath, implPath, type);
+        writeGeneratedSources(newGenFiles, srcPath, implPath, type, manifest, previousManifest);
+    }
+
+    /**
+     * Create the manifest of a generation from the contract and the options which affect the generated sources.
+     */
+    private GenerationManifest createGenerationManifest(GeneratorConstants.GenType type, String definitionPath,
+                                                        String serviceName, Filter filter, boolean nullable) {
+        Map<String, String> options = new HashMap<>();
+        options.put("mode", type.name());
+        options.put("serviceName", String.valueOf(serviceName));
+        options.put("tags", String.join(",", filter.getTags()));
+        options.put("operations", String.join(",", filter.getOperations()));
+        options.put("nullable", String.valueOf(nullable));
+        options.put("staticSerialization", String.valueOf(staticSerialization));
+        options.put("licenseHeader", GenerationManifest.hash(licenseHeader));
+        return GenerationManifest.create(Paths.get(definitionPath), options);
+    }
+
+    /**
+     * Check whether the sources in the output directory were generated with the same inputs and left unmodified, in
+     * which case the generation is skipped without parsing the contract.
+     */
+    private boolean isUpToDate(GenerationManifest manifest, GenerationManifest previousManifest, Path srcPath) {
+        if (previousManifest == null || !previousManifest.isUpToDate(manifest, srcPath)) {
+            return false;
+        }
+        if (interactive) {
+            outStream.println("The generated sources are up to date with the OpenAPI contract.");
+        }
+        return true;
     }
 
     public static <T> Predicate<T> distinctByKey(
@@ -228,8 +272,47 @@ public class CodeGenerator {
                                               String serviceName, Filter filter,
                                               boolean nullable)
             throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI api = parseOpenAPIDefinition(definitionPath, serviceName);
+        return generateBalSource(type, api, serviceName, filter, nullable);
+    }
+
+    /**
+     * Generates ballerina source for an already parsed Open API Definition. The given model is normalized in place,
+     * hence callers who share it between generators should pass a {@link GeneratorUtils#getOpenAPIView(OpenAPI)}.
+     */
+    private List<GenSrcFile> generateBalSource(GeneratorConstants.GenType type, OpenAPI api, String serviceName,
+                                               Filter filter, boolean nullable)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        List<GenSrcFile> sourceFiles;
+
+        switch (type) {
+            case GEN_CLIENT:
+                // modelPackage is not in use at the moment. All models will be written into same package
+                // as other src files.
+                // Therefore value set to modelPackage is ignored here
+                if (serviceName != null) {
+                    api.getInfo().setTitle(serviceName.replaceAll(ESCAPE_PATTERN, "\\\\$1"));
+                }
+                sourceFiles = generateClient(api, filter, nullable);
+                break;
+            case GEN_SERVICE:
+                sourceFiles = generateBallerinaService(api, serviceName, filter, nullable);
+                break;
+            default:
+                return null;
+        }
+
+        return sourceFiles;
+    }
+
+    /**
+     * Read and parse the Open API Definition in {@code definitionPath} once, with references resolved and inline
+     * schemas flattened, so that the same model can be shared by all the generators of a run.
+     */
+    private OpenAPI parseOpenAPIDefinition(String definitionPath, String serviceName)
+            throws IOException, BallerinaOpenApiException {
         String openAPIFileContent = Files.readString(Paths.get(definitionPath));
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIContent(openAPIFileContent);
         if (parseResult.getMessages().size() > 0) {
             StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
             for (String message : parseResult.getMessages()) {
@@ -249,27 +332,7 @@ public class CodeGenerator {
         } else {
             api.getInfo().setTitle(serviceName);
         }
-
-        List<GenSrcFile> sourceFiles;
-
-        switch (type) {
-            case GEN_CLIENT:
-                // modelPackage is not in use at the moment. All models will be written into same package
-                // as other src files.
-                // Therefore value set to modelPackage is ignored here
-                if (serviceName != null) {
-                    api.getInfo().setTitle(serviceName.replaceAll(ESCAPE_PATTERN, "\\\\$1"));
-                }
-                sourceFiles = generateClient(Paths.get(definitionPath), filter, nullable);
-                break;
-            case GEN_SERVICE:
-                sourceFiles = generateBallerinaService(Paths.get(definitionPath), serviceName, filter, nullable);
-                break;
-            default:
-                return null;
-        }
-
-        return sourceFiles;
+        return api;
     }
 
     /**
@@ -344,7 +407,8 @@ public class CodeGenerator {
     }
 
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
-                                       GeneratorConstants.GenType type)
+                                       GeneratorConstants.GenType type, GenerationManifest manifest,
+                                       GenerationManifest previousManifest)
             throws IOException {
         //  Remove old generated file with same name
         List<File> listFiles = new ArrayList<>();
@@ -364,9 +428,13 @@ public class CodeGenerator {
         }
 
         for (File file : listFiles) {
+            // files written by the previous generation and not modified since are replaced without asking
+            if (previousManifest != null && previousManifest.isGeneratedFile(srcPath, file.toPath())) {
+                continue;
+            }
             for (GenSrcFile gFile : sources) {
                 if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
+                    if (interactive && System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
                         if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
@@ -378,6 +446,8 @@ public class CodeGenerator {
             }
         }
 
+        // Resolve the target of each file first, the writes are independent of each other and done concurrently
+        Map<Path, String> fileContents = new LinkedHashMap<>();
         for (GenSrcFile file : sources) {
             Path filePath;
 
@@ -388,7 +458,8 @@ public class CodeGenerator {
                 if (Files.notExists(filePath)) {
                     String fileContent = file.getFileName().endsWith(".bal") ?
                             (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    fileContents.put(filePath, fileContent);
+                    manifest.addFile(srcPath, filePath, fileContent);
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
@@ -404,10 +475,30 @@ public class CodeGenerator {
                 }
                 String fileContent = file.getFileName().endsWith(".bal") ?
                         (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                manifest.addFile(srcPath, filePath, fileContent);
+                // a file with the same content is not written again, which keeps its timestamp for incremental builds
+                if (!hasContent(filePath, fileContent)) {
+                    fileContents.put(filePath, fileContent);
+                }
             }
         }
+        List<Callable<Void>> writes = new ArrayList<>();
+        for (Map.Entry<Path, String> fileContent : fileContents.entrySet()) {
+            writes.add(() -> {
+                CodegenUtils.writeFile(fileContent.getKey(), fileContent.getValue());
+                return null;
+            });
+        }
+        try {
+            runInParallel(writes);
+        } catch (ExecutionException e) {
+            throw getCause(e, IOException.class);
+        }
+        manifest.write(srcPath);
 
+        if (!interactive) {
+            return;
+        }
         //This will print the generated files to the console
         if (type.equals(GEN_SERVICE)) {
             outStream.println("Service generated successfully and the OpenAPI contract is copied to path " + srcPath
@@ -422,13 +513,18 @@ public class CodeGenerator {
         }
     }
 
+    private static boolean hasContent(Path filePath, String content) throws IOException {
+        return Files.isRegularFile(filePath) &&
+                Arrays.equals(Files.readAllBytes(filePath), content.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Generate code for ballerina client.
      *
      * @return generated source files as a list of {@link GenSrcFile}
      * @throws IOException when code generation with specified templates fails
      */
-    private List<GenSrcFile> generateClient(Path openAPI, Filter filter, boolean nullable)
+    private List<GenSrcFile> generateClient(OpenAPI openAPI, Filter filter, boolean nullable)
             throws IOException, BallerinaOpenApiException, FormatterException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_CLIENT_PKG;
@@ -438,31 +534,40 @@ public class CodeGenerator {
         OpenAPI openAPIDef = normalizeOpenAPI(openAPI, true);
         // Generate ballerina service and resources.
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPIDef, filter, nullable);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        ballerinaClientGenerator.setStaticSerialization(staticSerialization);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
 
         // Generate ballerina records to represent schemas.
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPIDef, nullable);
-        ballerinaSchemaGenerator.setTypeDefinitionNodeList(ballerinaClientGenerator.getTypeDefinitionNodeList());
+        ballerinaSchemaGenerator.setTypeDefinitionRegistry(ballerinaClientGenerator.getTypeDefinitionRegistry());
+        ballerinaSchemaGenerator.setParallel(parallel);
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+
+        // Generate test boilerplate code for test cases
+        BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
+        SyntaxTree testSyntaxTree = ballerinaTestGenerator.generateSyntaxTree();
+
+        // The generators are done, hence the syntax trees are formatted concurrently
+        List<String> contents = formatInParallel(
+                List.of(clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree, testSyntaxTree));
+        String mainContent = contents.get(0);
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
+        String utilContent = contents.get(1);
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
+        }
+        String schemaContent = contents.get(2);
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = modifySchemaContent(schemaSyntaxTree, mainContent, schemaContent);
+            schemaContent = modifySchemaContent(mainContent, schemaContent);
         }
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
                     schemaContent));
         }
 
-        // Generate test boilerplate code for test cases
-        BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-        String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
+        String testContent = contents.get(3);
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
 
         String configContent = ballerinaTestGenerator.getConfigTomlFile();
@@ -473,114 +578,81 @@ public class CodeGenerator {
         return sourceFiles;
     }
 
-    private String modifySchemaContent(SyntaxTree schemaSyntaxTree, String clientContent, String schemaContent)
-            throws IOException, FormatterException {
-        Map<String, String> tempSourceFiles = new HashMap<>();
-        tempSourceFiles.put(CLIENT_FILE_NAME, clientContent);
-        tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-        List<String> unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        while (unusedTypeDefinitionNameList.size() > 0) {
-            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
-            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-            List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
-            for (ModuleMemberDeclarationNode node : members) {
-                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(TYPE_NAME)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(IDENTIFIER)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                }
+    /**
+     * Remove the records and enums which are not reachable from the generated client. A type reference graph is built
+     * from the generated type definitions and a single mark and sweep pass is done starting from the types referred
+     * in the client, which already contains only the operations kept by the filter.
+     */
+    private String modifySchemaContent(String clientContent, String schemaContent) throws FormatterException {
+        SyntaxTree schemaSyntaxTree = SyntaxTree.from(TextDocuments.from(schemaContent));
+        ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+
+        // Type reference graph : type name -> names referred inside the type descriptor
+        Map<String, ModuleMemberDeclarationNode> typeDefinitions = new LinkedHashMap<>();
+        Map<String, Set<String>> typeReferences = new HashMap<>();
+        for (ModuleMemberDeclarationNode node : members) {
+            if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
+                TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) node;
+                String typeName = getUnescapedName(typeDefinitionNode.typeName().text());
+                typeDefinitions.put(typeName, node);
+                typeReferences.put(typeName, getReferredNames(typeDefinitionNode.typeDescriptor()));
+            } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
+                EnumDeclarationNode enumDeclarationNode = (EnumDeclarationNode) node;
+                typeDefinitions.put(getUnescapedName(enumDeclarationNode.identifier().text()), node);
             }
-            NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll
-                    (unusedTypeDefinitionNodeList);
-            ModulePartNode modiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
-                    modifiedMembers, modulePartNode.eofToken());
-            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modiedModulePartNode);
-            schemaContent = Formatter.format(schemaSyntaxTree).toString();
-            tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-            unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        }
-        return schemaContent;
-    }
+        }
 
-    private List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
-        List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if (Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = this.getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME));
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
-                    List<Location> references = semanticModel.references(symbol);
-                    if (references.size() == 1) {
-                        unusedTypeDefinitionNameList.add(symbol.getName().get());
-                    }
-                }
+        // Mark the types reachable from the client
+        SyntaxTree clientSyntaxTree = SyntaxTree.from(TextDocuments.from(clientContent));
+        Set<String> usedTypeNames = new HashSet<>();
+        Deque<String> pendingTypeNames = new ArrayDeque<>(getReferredNames(clientSyntaxTree.rootNode()));
+        while (!pendingTypeNames.isEmpty()) {
+            String name = pendingTypeNames.pop();
+            if (typeDefinitions.containsKey(name) && usedTypeNames.add(name)) {
+                pendingTypeNames.addAll(typeReferences.getOrDefault(name, Collections.emptySet()));
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-            }
-        }));
-        return unusedTypeDefinitionNameList;
-    }
 
-    private void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
-            try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
+        // Sweep the unused types
+        List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
+        for (Map.Entry<String, ModuleMemberDeclarationNode> typeDefinition : typeDefinitions.entrySet()) {
+            if (!usedTypeNames.contains(typeDefinition.getKey())) {
+                unusedTypeDefinitionNodeList.add(typeDefinition.getValue());
             }
         }
+        if (unusedTypeDefinitionNodeList.isEmpty()) {
+            return schemaContent;
+        }
+        NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll(unusedTypeDefinitionNodeList);
+        ModulePartNode modifiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
+                modifiedMembers, modulePartNode.eofToken());
+        return Formatter.format(schemaSyntaxTree.modifyWith(modifiedModulePartNode)).toString();
     }
 
-    private SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
-        try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
+    /**
+     * Collect all the identifiers used inside the given node, which over approximates the type names it refers.
+     */
+    private static Set<String> getReferredNames(Node node) {
+        Set<String> referredNames = new HashSet<>();
+        node.accept(new NodeVisitor() {
+            @Override
+            public void visit(IdentifierToken identifier) {
+                referredNames.add(getUnescapedName(identifier.text()));
             }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
-        }
+        });
+        return referredNames;
     }
 
+    private static String getUnescapedName(String identifier) {
+        String name = identifier.trim();
+        if (name.startsWith("'")) {
+            name = name.substring(1);
+        }
+        return name.replace("\\", "");
+    }
 
-    private List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
+    private List<GenSrcFile> generateBallerinaService(OpenAPI openAPI, String serviceName,
                                                       Filter filter, boolean nullable)
             throws IOException, FormatterException, BallerinaOpenApiException {
 
@@ -593,18 +665,73 @@ public class CodeGenerator {
         String srcFile = concatTitle + "_service.bal";
         OpenAPI openAPIDef = normalizeOpenAPI(openAPI, false);
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator();
-        String mainContent = Formatter.format
-                (ballerinaServiceGenerator.generateSyntaxTree(openAPIDef, filter)).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-
+        SyntaxTree serviceSyntaxTree = ballerinaServiceGenerator.generateSyntaxTree(openAPIDef, filter);
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPIDef, nullable);
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME, schemaContent));
+        ballerinaSchemaGenerator.setParallel(parallel);
+        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+
+        List<String> contents = formatInParallel(List.of(serviceSyntaxTree, schemaSyntaxTree));
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, contents.get(0)));
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME, contents.get(1)));
 
         return sourceFiles;
     }
 
+    /**
+     * Format the given syntax trees concurrently. The formatted sources are returned in the order of the trees.
+     */
+    private static List<String> formatInParallel(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<Callable<String>> formats = new ArrayList<>();
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            formats.add(() -> Formatter.format(syntaxTree).toString());
+        }
+        try {
+            return runInParallel(formats);
+        } catch (ExecutionException e) {
+            throw getCause(e, FormatterException.class);
+        }
+    }
+
+    /**
+     * Run the given tasks on a small pool and collect their results in the order of the tasks.
+     */
+    private static <T> List<T> runInParallel(List<Callable<T>> tasks) throws ExecutionException {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_POOL_SIZE));
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the sources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <E extends Exception> E getCause(ExecutionException e, Class<E> exceptionType) {
+        Throwable cause = e.getCause();
+        if (exceptionType.isInstance(cause)) {
+            return exceptionType.cast(cause);
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
     /**
      * Normalized OpenAPI specification with adding proper naming to schema.
      *
@@ -614,13 +741,25 @@ public class CodeGenerator {
      * @throws BallerinaOpenApiException
      */
     public OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient) throws IOException, BallerinaOpenApiException {
-        GeneratorUtils generatorUtils = new GeneratorUtils();
-        OpenAPI openAPI = generatorUtils.getOpenAPIFromOpenAPIV3Parser(openAPIPath);
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPIPath);
+        return normalizeOpenAPI(openAPI, isClient);
+    }
+
+    /**
+     * Normalized an already parsed OpenAPI specification with adding proper naming to schema. The given model is
+     * modified in place.
+     *
+     * @param openAPI  - parsed openAPI specification
+     * @param isClient - whether the normalization is done for client generation
+     * @return - normalized openAPI specification
+     * @throws BallerinaOpenApiException
+     */
+    public OpenAPI normalizeOpenAPI(OpenAPI openAPI, boolean isClient) throws BallerinaOpenApiException {
         if (isClient) {
             validateOperationIds(openAPI.getPaths().entrySet());
             validateRequestBody(openAPI.getPaths().entrySet());
         } else {
-            generatorUtils.setOperationId(openAPI.getPaths());
+            GeneratorUtils.setOperationId(openAPI.getPaths());
         }
 
         if (openAPI.getComponents() != null) {
@@ -628,12 +767,7 @@ public class CodeGenerator {
             Components components = openAPI.getComponents();
             Map<String, Schema> componentsSchemas = components.getSchemas();
             if (componentsSchemas != null) {
-                Map<String, Schema> refacSchema = new HashMap<>();
-                for (Map.Entry<String, Schema> schemaEntry : componentsSchemas.entrySet()) {
-                    String name = getValidName(schemaEntry.getKey(), true);
-                    refacSchema.put(name, schemaEntry.getValue());
-                }
-                openAPI.getComponents().setSchemas(refacSchema);
+                openAPI.getComponents().setSchemas(getSchemasWithValidNames(componentsSchemas));
             }
         }
         return openAPI;
@@ -699,4 +833,26 @@ public class CodeGenerator {
     public void setLicenseHeader(String licenseHeader) {
         this.licenseHeader = licenseHeader;
     }
+
+    /**
+     * Set whether the generator asks before overwriting existing files and prints the generated files. It is turned
+     * off when the caller generates many contracts and reports them itself.
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Set whether the type definitions of the component schemas are generated concurrently.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Set whether the client serializes the query parameters and headers with code generated for each parameter.
+     */
+    public void setStaticSerialization(boolean staticSerialization) {
+        this.staticSerialization = staticSerialization;
+    }
 }
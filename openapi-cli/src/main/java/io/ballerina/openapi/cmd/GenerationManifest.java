@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Manifest written into the output directory of a generation. It records the hash of the contract, the options and
+ * the tool version of the generation together with the hash of each generated file, so that a rerun with the same
+ * inputs over unmodified outputs can be skipped without parsing the contract.
+ */
+public class GenerationManifest {
+    public static final String MANIFEST_FILE_NAME = ".openapi-generation.json";
+    private static final String TOOL_VERSION = "toolVersion";
+    private static final String CONTRACT_HASH = "contractHash";
+    private static final String OPTIONS = "options";
+    private static final String FILES = "files";
+    private static final String TOOL_PROPERTIES = "/openapi-tool.properties";
+    private static final String UNKNOWN_VERSION = "unknown";
+    // a `$ref` in YAML or JSON to another document, the part of the reference before `#` is captured
+    private static final Pattern EXTERNAL_REF_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    private final String toolVersion;
+    private final String contractHash;
+    private final Map<String, String> options;
+    // generated file path relative to the output directory -> hash of its content
+    private final Map<String, String> fileHashes = new TreeMap<>();
+
+    private GenerationManifest(String toolVersion, String contractHash, Map<String, String> options) {
+        this.toolVersion = toolVersion;
+        this.contractHash = contractHash;
+        this.options = options;
+    }
+
+    /**
+     * Create the manifest of a generation from the given contract and options.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @param options      options of the generation
+     * @return manifest without any generated file
+     */
+    public static GenerationManifest create(Path contractPath, Map<String, String> options) {
+        return new GenerationManifest(ToolVersionHolder.VERSION, hashContract(contractPath).orElse(""),
+                new TreeMap<>(options));
+    }
+
+    /**
+     * Hash the contract together with the files it refers to with {@code $ref} in any depth, since the parser
+     * resolves them into the contract. The references are found in the text, so the contract is not parsed.
+     *
+     * A file that cannot be read, which may also be a false match of a {@code $ref} in a description, only disables
+     * skipping the generation. The parser reports the actual error of the contract then.
+     *
+     * @return hash of the contract, or empty if it refers to a remote document, which cannot be checked without
+     * fetching it, or if a file cannot be read
+     */
+    private static Optional<String> hashContract(Path contractPath) {
+        Path contractDir = contractPath.toAbsolutePath().normalize().getParent();
+        // path relative to the contract directory -> content
+        Map<String, String> contents = new TreeMap<>();
+        Deque<Path> pendingPaths = new ArrayDeque<>();
+        pendingPaths.add(contractPath.toAbsolutePath().normalize());
+        while (!pendingPaths.isEmpty()) {
+            Path path = pendingPaths.poll();
+            String relativePath = getRelativePath(contractDir, path);
+            if (contents.containsKey(relativePath)) {
+                continue;
+            }
+            String content;
+            try {
+                // line endings are normalized, so that checkouts on different platforms share the same hash
+                content = Files.readString(path).replace("\r\n", "\n");
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+            contents.put(relativePath, content);
+            Matcher matcher = EXTERNAL_REF_PATTERN.matcher(content);
+            while (matcher.find()) {
+                String reference = matcher.group(1);
+                if (reference.contains("://")) {
+                    return Optional.empty();
+                }
+                try {
+                    pendingPaths.add(path.getParent().resolve(reference).normalize());
+                } catch (InvalidPathException e) {
+                    return Optional.empty();
+                }
+            }
+        }
+        StringBuilder hashedContent = new StringBuilder();
+        contents.forEach((relativePath, content) -> hashedContent.append(relativePath).append('\n')
+                .append(content).append('\n'));
+        return Optional.of(hash(hashedContent.toString()));
+    }
+
+    /**
+     * Read the manifest of the previous generation in the given output directory.
+     *
+     * @param outputPath output directory of the generation
+     * @return manifest, or empty if there is none or it cannot be read
+     */
+    public static Optional<GenerationManifest> read(Path outputPath) {
+        Path manifestPath = outputPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode manifestNode = Json.mapper().readTree(manifestPath.toFile());
+            GenerationManifest manifest = new GenerationManifest(manifestNode.path(TOOL_VERSION).asText(),
+                    manifestNode.path(CONTRACT_HASH).asText(), getEntries(manifestNode.path(OPTIONS)));
+            manifest.fileHashes.putAll(getEntries(manifestNode.path(FILES)));
+            return Optional.of(manifest);
+        } catch (IOException e) {
+            // a broken manifest only costs a full generation
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check whether this manifest of a previous generation has the same inputs as the given one and all the files it
+     * recorded are still in the output directory without any modification.
+     *
+     * @param current    manifest of the current generation
+     * @param outputPath output directory of the generation
+     * @return true if the generation can be skipped
+     */
+    public boolean isUpToDate(GenerationManifest current, Path outputPath) {
+        if (current.contractHash.isEmpty() || !toolVersion.equals(current.toolVersion) ||
+                !contractHash.equals(current.contractHash) ||
+                !options.equals(current.options) || fileHashes.isEmpty()) {
+            return false;
+        }
+        for (String filePath : fileHashes.keySet()) {
+            if (!isGeneratedFile(outputPath, outputPath.resolve(filePath))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given file was written by this generation and has not been modified since.
+     *
+     * @param outputPath output directory of the generation
+     * @param filePath   path of the file
+     * @return true if the file content matches the recorded hash
+     */
+    public boolean isGeneratedFile(Path outputPath, Path filePath) {
+        String recordedHash = fileHashes.get(getRelativePath(outputPath, filePath));
+        if (recordedHash == null || !Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try {
+            return recordedHash.equals(hash(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Record a generated file.
+     *
+     * @param outputPath output directory of the generation
+     * @param filePath   path of the generated file
+     * @param content    content of the generated file
+     */
+    public void addFile(Path outputPath, Path filePath, String content) {
+        fileHashes.put(getRelativePath(outputPath, filePath), hash(content));
+    }
+
+    /**
+     * Write the manifest into the given output directory.
+     *
+     * @param outputPath output directory of the generation
+     * @throws IOException when the manifest cannot be written
+     */
+    public void write(Path outputPath) throws IOException {
+        ObjectNode manifestNode = Json.mapper().createObjectNode();
+        manifestNode.put(TOOL_VERSION, toolVersion);
+        manifestNode.put(CONTRACT_HASH, contractHash);
+        ObjectNode optionsNode = manifestNode.putObject(OPTIONS);
+        options.forEach(optionsNode::put);
+        ObjectNode filesNode = manifestNode.putObject(FILES);
+        fileHashes.forEach(filesNode::put);
+        Files.createDirectories(outputPath);
+        Files.writeString(outputPath.resolve(MANIFEST_FILE_NAME),
+                Json.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(manifestNode));
+    }
+
+    static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // file paths are recorded with '/' separators, so the manifest does not depend on the platform
+    private static String getRelativePath(Path outputPath, Path filePath) {
+        return outputPath.toAbsolutePath().normalize().relativize(filePath.toAbsolutePath().normalize()).toString()
+                .replace('\\', '/');
+    }
+
+    private static Map<String, String> getEntries(JsonNode node) {
+        Map<String, String> entries = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            entries.put(field.getKey(), field.getValue().asText());
+        }
+        return entries;
+    }
+
+    /**
+     * Lazily loaded version of the tool, which is part of the manifest since a new version can generate different
+     * sources for the same contract.
+     */
+    private static class ToolVersionHolder {
+        private static final String VERSION = loadVersion();
+
+        private static String loadVersion() {
+            try (InputStream inputStream = GenerationManifest.class.getResourceAsStream(TOOL_PROPERTIES)) {
+                if (inputStream == null) {
+                    return UNKNOWN_VERSION;
+                }
+                Properties properties = new Properties();
+                properties.load(inputStream);
+                return properties.getProperty("version", UNKNOWN_VERSION);
+            } catch (IOException e) {
+                return UNKNOWN_VERSION;
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.ballerina.openapi.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.openapi.cmd.model.BatchContract;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
@@ -95,6 +96,18 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--json"}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {"--parallel"}, description = "Write the OpenAPI contracts of the services " +
+            "or generate the types of the OpenAPI contract in parallel")
+    private boolean parallel;
+
+    @CommandLine.Option(names = {"--static-serialization"}, description = "Generate the client with code that " +
+            "serializes the query parameters and headers of each operation, instead of the generic util functions")
+    private boolean staticSerialization;
+
+    @CommandLine.Option(names = {"--batch"}, description = "Directory of OpenAPI contracts or manifest of contracts " +
+            "with their output path, mode, tags and nullable settings, to generate all of them in one run")
+    private String batchPath;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -121,8 +134,12 @@ public class OpenApiCmd implements BLauncherCmd {
             outStream.println(commandUsageInfo);
             return;
         }
-        //Check if cli input argument is present
-        if (inputPath) {
+        if (batchPath != null) {
+            if (!openApiToBallerinaBatch()) {
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        } else if (inputPath) {
             //Check if an OpenApi definition is provided
             if (argList == null) {
                 outStream.println(OpenApiMesseges.MESSAGE_FOR_MISSING_INPUT);
@@ -135,15 +152,7 @@ public class OpenApiCmd implements BLauncherCmd {
             String fileName = argList.get(0);
             if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
                     fileName.endsWith(YML_EXTENSION)) {
-                List<String> tag = new ArrayList<>();
-                List<String> operation = new ArrayList<>();
-                if (tags != null) {
-                    tag.addAll(Arrays.asList(tags.split(",")));
-                }
-                if (operations != null) {
-                    operation.addAll(Arrays.asList(operations.split(",")));
-                }
-                Filter filter = new Filter(tag, operation);
+                Filter filter = getFilter();
                 try {
                     openApiToBallerina(fileName, filter);
                 } catch (IOException e) {
@@ -168,6 +177,40 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    private Filter getFilter() {
+        List<String> tag = new ArrayList<>();
+        List<String> operation = new ArrayList<>();
+        if (tags != null) {
+            tag.addAll(Arrays.asList(tags.split(",")));
+        }
+        if (operations != null) {
+            operation.addAll(Arrays.asList(operations.split(",")));
+        }
+        return new Filter(tag, operation);
+    }
+
+    /**
+     * This util method generates the Ballerina sources of all the contracts of the given directory or manifest in one
+     * run. The mode, tags, operations, nullable, parallel and static serialization options of the command are the
+     * defaults of the contracts.
+     *
+     * @return true if all the contracts were generated
+     */
+    private boolean openApiToBallerinaBatch() {
+        getTargetOutputPath();
+        List<BatchContract> contracts;
+        try {
+            contracts = BatchGenerator.readContracts(executionPath.resolve(batchPath), targetOutputPath, mode,
+                    getFilter(), nullable, parallel, staticSerialization);
+        } catch (IOException | BallerinaOpenApiException e) {
+            outStream.println("Error occurred when reading the OpenAPI contracts at " + batchPath + ". " +
+                    e.getMessage());
+            return false;
+        }
+        BatchGenerator batchGenerator = new BatchGenerator(outStream, this.setLicenseHeader());
+        return batchGenerator.generate(contracts);
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
@@ -188,7 +231,7 @@ public class OpenApiCmd implements BLauncherCmd {
         // Check service name it is mandatory
         OpenApiConverter openApiConverter = new OpenApiConverter();
         openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+                generatedFileType, parallel);
         errors.addAll(openApiConverter.getErrors());
         if (!errors.isEmpty()) {
             for (OpenAPIConverterDiagnostic error: errors) {
@@ -219,6 +262,8 @@ public class OpenApiCmd implements BLauncherCmd {
     private void openApiToBallerina(String fileName, Filter filter) throws IOException {
         CodeGenerator generator = new CodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
+        generator.setParallel(parallel);
+        generator.setStaticSerialization(staticSerialization);
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.cmd.model;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Model class to hold an OpenAPI contract of a batch generation with its generation settings.
+ */
+public class BatchContract {
+    private final Path contractPath;
+    private final Path outputPath;
+    private final String mode;
+    private final List<String> tags;
+    private final List<String> operations;
+    private final boolean nullable;
+    private final boolean parallel;
+    private final boolean staticSerialization;
+    private final String serviceName;
+
+    public BatchContract(Path contractPath, Path outputPath, String mode, List<String> tags, List<String> operations,
+                         boolean nullable, boolean parallel, boolean staticSerialization, String serviceName) {
+        this.contractPath = contractPath;
+        this.outputPath = outputPath;
+        this.mode = mode;
+        this.tags = tags;
+        this.operations = operations;
+        this.nullable = nullable;
+        this.parallel = parallel;
+        this.staticSerialization = staticSerialization;
+        this.serviceName = serviceName;
+    }
+
+    public Path getContractPath() {
+        return contractPath;
+    }
+
+    public Path getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * Generation mode of the contract, {@code service}, {@code client} or null to generate both.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<String> getOperations() {
+        return operations;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public boolean isStaticSerialization() {
+        return staticSerialization;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+}
@@ -181,6 +181,7 @@ public class GeneratorConstants {
     public static final String X_BALLERINA_INIT_DESCRIPTION = "x-ballerina-init-description";
     public static final String X_BALLERINA_DISPLAY = "x-ballerina-display";
     public static final String X_BALLERINA_DEPRECATED_REASON = "x-ballerina-deprecated-reason";
+    public static final String X_BALLERINA_STREAM = "x-ballerina-stream";
 
     //Service related
     public static final String HOST = "host";
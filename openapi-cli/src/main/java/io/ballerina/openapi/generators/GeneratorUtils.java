@@ -43,6 +43,7 @@ import io.ballerina.openapi.ErrorMessages;
 import io.ballerina.openapi.cmd.model.GenSrcFile;
 import io.ballerina.openapi.converter.Constants;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -62,11 +63,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -268,6 +271,31 @@ public class GeneratorUtils {
         return identifier;
     }
 
+    /**
+     * Rename the component schemas with the valid names of the types generated for them. The schemas are sorted by
+     * name, so that the order of the types does not depend on hashing.
+     *
+     * @param schemas component schemas of the contract
+     * @return schemas keyed by their valid names
+     * @throws BallerinaOpenApiException when two schemas have the same valid name
+     */
+    public static Map<String, Schema> getSchemasWithValidNames(Map<String, Schema> schemas)
+            throws BallerinaOpenApiException {
+        Map<String, Schema> validSchemas = new TreeMap<>();
+        Map<String, String> schemaNames = new HashMap<>();
+        for (Map.Entry<String, Schema> schemaEntry : schemas.entrySet()) {
+            String name = getValidName(schemaEntry.getKey(), true);
+            String clashingSchemaName = schemaNames.put(name, schemaEntry.getKey());
+            if (clashingSchemaName != null) {
+                throw new BallerinaOpenApiException("The schemas '" + clashingSchemaName + "' and '" +
+                        schemaEntry.getKey() + "' are both generated as the type '" + name +
+                        "'. Rename one of the schemas to generate the types.");
+            }
+            validSchemas.put(name, schemaEntry.getValue());
+        }
+        return validSchemas;
+    }
+
     /**
      * Generate operationId by removing special characters.
      *
@@ -345,10 +373,7 @@ public class GeneratorUtils {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
         String openAPIFileContent = Files.readString(definitionPath);
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
+        SwaggerParseResult parseResult = parseOpenAPIContent(openAPIFileContent);
         if (!parseResult.getMessages().isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("OpenAPI file has errors: \n\n");
             for (String message: parseResult.getMessages()) {
@@ -359,6 +384,92 @@ public class GeneratorUtils {
         return parseResult.getOpenAPI();
     }
 
+    /**
+     * Parse the given OpenAPI contract content with reference resolving and inline schema flattening enabled. This is
+     * the single parse used by every generator, so that one code generation run reads the contract only once.
+     *
+     * @param openAPIFileContent content of the OpenAPI contract
+     * @return parse result with the {@link OpenAPI} model and parser messages
+     */
+    public static SwaggerParseResult parseOpenAPIContent(String openAPIFileContent) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        return new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
+    }
+
+    /**
+     * Create a copy-on-write view of the given OpenAPI model. Paths, path items, operations and components are copied
+     * so that normalization steps (ex: operationId generation, schema renaming) on the view do not leak into the
+     * source model, while the heavy leaf models (schemas, parameters, responses) are shared with the source.
+     *
+     * @param openAPI parsed OpenAPI model
+     * @return view of the model which is safe to normalize independently
+     */
+    public static OpenAPI getOpenAPIView(OpenAPI openAPI) {
+        OpenAPI openAPIView = new OpenAPI()
+                .openapi(openAPI.getOpenapi())
+                .info(openAPI.getInfo())
+                .externalDocs(openAPI.getExternalDocs())
+                .servers(openAPI.getServers())
+                .security(openAPI.getSecurity())
+                .tags(openAPI.getTags());
+        openAPIView.setExtensions(openAPI.getExtensions());
+        if (openAPI.getPaths() != null) {
+            Paths paths = new Paths();
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                paths.addPathItem(path.getKey(), copyPathItem(path.getValue()));
+            }
+            paths.setExtensions(openAPI.getPaths().getExtensions());
+            openAPIView.setPaths(paths);
+        }
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            Components componentsView = new Components()
+                    .schemas(components.getSchemas())
+                    .responses(components.getResponses())
+                    .parameters(components.getParameters())
+                    .examples(components.getExamples())
+                    .requestBodies(components.getRequestBodies())
+                    .headers(components.getHeaders())
+                    .securitySchemes(components.getSecuritySchemes())
+                    .links(components.getLinks())
+                    .callbacks(components.getCallbacks());
+            componentsView.setExtensions(components.getExtensions());
+            openAPIView.setComponents(componentsView);
+        }
+        return openAPIView;
+    }
+
+    private static PathItem copyPathItem(PathItem pathItem) {
+        PathItem pathItemCopy = new PathItem()
+                .summary(pathItem.getSummary())
+                .description(pathItem.getDescription())
+                .servers(pathItem.getServers())
+                .parameters(pathItem.getParameters())
+                .$ref(pathItem.get$ref());
+        pathItemCopy.setExtensions(pathItem.getExtensions());
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+            Operation value = operation.getValue();
+            Operation operationCopy = new Operation()
+                    .tags(value.getTags())
+                    .summary(value.getSummary())
+                    .description(value.getDescription())
+                    .externalDocs(value.getExternalDocs())
+                    .operationId(value.getOperationId())
+                    .parameters(value.getParameters())
+                    .requestBody(value.getRequestBody())
+                    .responses(value.getResponses())
+                    .callbacks(value.getCallbacks())
+                    .deprecated(value.getDeprecated())
+                    .security(value.getSecurity())
+                    .servers(value.getServers());
+            operationCopy.setExtensions(value.getExtensions());
+            pathItemCopy.operation(operation.getKey(), operationCopy);
+        }
+        return pathItemCopy;
+    }
+
 
     /**
      * Generate BallerinaMediaType for all the mediaTypes.
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the type definitions generated for an OpenAPI contract, keyed by the type name. The client generators
+ * and the schema generator share one registry, so that a type which is already defined is found without scanning
+ * the type definitions generated so far. The type definitions are kept in the order they are registered, which is
+ * the order they are written to the types file.
+ */
+public class TypeDefinitionRegistry {
+    private final Map<String, TypeDefinitionNode> typeDefinitions = new LinkedHashMap<>();
+
+    /**
+     * Register the type definition with the given type name, unless a type definition is already registered with the
+     * same name. The same type definition is generated again for each use of an inline type, which is not a collision.
+     *
+     * @param typeName          name of the type
+     * @param typeDefinitionNode type definition to register
+     * @return false if a different type definition is registered with the same name, which is kept
+     */
+    public boolean register(String typeName, TypeDefinitionNode typeDefinitionNode) {
+        TypeDefinitionNode registeredNode = typeDefinitions.putIfAbsent(typeName.trim(), typeDefinitionNode);
+        return registeredNode == null || registeredNode.toString().equals(typeDefinitionNode.toString());
+    }
+
+    /**
+     * Register the type definition with the name it defines.
+     *
+     * @param typeDefinitionNode type definition to register
+     * @return false if a different type definition is registered with the same name, which is kept
+     */
+    public boolean register(TypeDefinitionNode typeDefinitionNode) {
+        return register(typeDefinitionNode.typeName().text(), typeDefinitionNode);
+    }
+
+    public boolean contains(String typeName) {
+        return typeDefinitions.containsKey(typeName.trim());
+    }
+
+    public Optional<TypeDefinitionNode> get(String typeName) {
+        return Optional.ofNullable(typeDefinitions.get(typeName.trim()));
+    }
+
+    public boolean isEmpty() {
+        return typeDefinitions.isEmpty();
+    }
+
+    public int size() {
+        return typeDefinitions.size();
+    }
+
+    /**
+     * Returns the registered type definitions in the order they were registered.
+     */
+    public List<TypeDefinitionNode> getTypeDefinitionNodes() {
+        return new ArrayList<>(typeDefinitions.values());
+    }
+}
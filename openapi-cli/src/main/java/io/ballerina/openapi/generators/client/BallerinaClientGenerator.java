@@ -47,13 +47,13 @@ import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -121,7 +121,7 @@ import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_INI
 public class BallerinaClientGenerator {
     private final Filter filters;
     private List<ImportDeclarationNode> imports;
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
     private List<String> apiKeyNameList = new ArrayList<>();
     private final OpenAPI openAPI;
     private final BallerinaSchemaGenerator ballerinaSchemaGenerator;
@@ -130,22 +130,31 @@ public class BallerinaClientGenerator {
     private final List<String> remoteFunctionNameList;
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
+    private boolean staticSerialization;
 
     /**
-     * Returns a list of type definition nodes.
+     * Returns the registry of the type definitions generated for the client.
      */
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
 
-        return typeDefinitionNodeList;
+        return typeDefinitionRegistry;
     }
     /**
-     * Set the typeDefinitionNodeList.
+     * Set the typeDefinitionRegistry.
      */
-    public void setTypeDefinitionNodeList(
-            List<TypeDefinitionNode> typeDefinitionNodeList) {
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
 
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
     }
+
+    /**
+     * Set whether the remote functions serialize the query parameters and headers with statements generated for each
+     * parameter, instead of the util functions.
+     */
+    public void setStaticSerialization(boolean staticSerialization) {
+        this.staticSerialization = staticSerialization;
+    }
+
     public List<String> getRemoteFunctionNameList () {
         return remoteFunctionNameList;
     }
@@ -162,7 +171,7 @@ public class BallerinaClientGenerator {
 
         this.filters = filters;
         this.imports = new ArrayList<>();
-        this.typeDefinitionNodeList = new ArrayList<>();
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPI, nullable);
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
@@ -503,11 +512,11 @@ public class BallerinaClientGenerator {
         remoteFunctionNameList.add(operation.getValue().getOperationId());
 
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                ballerinaSchemaGenerator, typeDefinitionNodeList);
+                ballerinaSchemaGenerator, typeDefinitionRegistry);
         FunctionSignatureNode functionSignatureNode =
                 functionSignatureGenerator.getFunctionSignatureNode(operation.getValue(),
                         remoteFunctionDocs);
-        typeDefinitionNodeList = functionSignatureGenerator.getTypeDefinitionNodeList();
+        typeDefinitionRegistry = functionSignatureGenerator.getTypeDefinitionRegistry();
         // Create `Deprecated` annotation if an operation has mentioned as `deprecated:true`
         if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
             DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
@@ -518,8 +527,9 @@ public class BallerinaClientGenerator {
                 createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
 
         // Create Function Body
-        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionRegistry,
                 openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator);
+        functionBodyGenerator.setStaticSerialization(staticSerialization);
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
         imports = functionBodyGenerator.getImports();
         return createFunctionDefinitionNode(null,
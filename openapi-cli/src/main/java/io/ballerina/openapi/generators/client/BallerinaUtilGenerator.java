@@ -1,10 +1,11 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -23,27 +24,20 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -100,7 +94,9 @@ public class BallerinaUtilGenerator {
     private boolean headersFound = false;
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private boolean jsonArrayStreamFound = false;
+    private static final String UTILS_TEMPLATE = "templates/utils.bal";
+    private static volatile Map<String, ModuleMemberDeclarationNode> utilFunctions;
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -111,6 +107,7 @@ public class BallerinaUtilGenerator {
     private static final String GET_PATH_FOR_QUERY_PARAM = "getPathForQueryParam";
     private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
+    private static final String JSON_ARRAY_STREAM = "JsonArrayStream";
 
 
     /**
@@ -140,6 +137,16 @@ public class BallerinaUtilGenerator {
         this.requestBodyEncodingFound = flag;
     }
 
+    /**
+     * Set `jsonArrayStreamFound` flag to `true` when at least one function returns the items of a JSON array response
+     * as a stream.
+     *
+     * @param flag     Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setJsonArrayStreamFound(boolean flag) {
+        this.jsonArrayStreamFound = flag;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -164,34 +171,24 @@ public class BallerinaUtilGenerator {
         if (headersFound) {
             functionNameList.add(GET_MAP_FOR_HEADERS);
         }
+        if (jsonArrayStreamFound) {
+            functionNameList.add(JSON_ARRAY_STREAM);
+        }
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        for (Map.Entry<String, ModuleMemberDeclarationNode> utilFunction : getUtilFunctions().entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(utilFunction.getValue());
             }
         }
 
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        if (!(functionNameList.size() == 0 ||
-                (functionNameList.size() == 1 && functionNameList.contains(GET_MAP_FOR_HEADERS)))) {
+        // Only the serialization functions use the url module
+        Set<String> urlFunctionNames = new LinkedHashSet<>(functionNameList);
+        urlFunctionNames.removeAll(Arrays.asList(GET_MAP_FOR_HEADERS, JSON_ARRAY_STREAM));
+        if (!urlFunctionNames.isEmpty()) {
             ImportDeclarationNode importForHttp =
                     GeneratorUtils.getImportDeclarationNode(BALLERINA, URL);
             imports.add(importForHttp);
@@ -332,30 +329,46 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils.bal template at the time of execution.
+     * Gets the function definitions of the utils.bal template keyed by the function name, in the template order. The
+     * template is parsed only once per JVM and the immutable nodes are shared by all the generated util files.
      *
-     * @return  Path to utils.bal file in the temporary directory created
+     * @return  Function definition nodes of the utils.bal template
      * @throws  IOException     When failed to get the templates/utils.bal file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
+    private static Map<String, ModuleMemberDeclarationNode> getUtilFunctions() throws IOException {
+        Map<String, ModuleMemberDeclarationNode> functions = utilFunctions;
+        if (functions == null) {
+            synchronized (BallerinaUtilGenerator.class) {
+                functions = utilFunctions;
+                if (functions == null) {
+                    functions = loadUtilFunctions();
+                    utilFunctions = functions;
+                }
+            }
+        }
+        return functions;
+    }
+
+    private static Map<String, ModuleMemberDeclarationNode> loadUtilFunctions() throws IOException {
+        ClassLoader classLoader = BallerinaUtilGenerator.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(UTILS_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the " + UTILS_TEMPLATE + " file in resources");
             }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+            String utilsContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(utilsContent));
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            Map<String, ModuleMemberDeclarationNode> functions = new LinkedHashMap<>();
+            for (ModuleMemberDeclarationNode node : modulePartNode.members()) {
+                if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
+                    FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
+                    functions.put(functionDefinitionNode.functionName().text().trim(), node);
+                } else if (node.kind().equals(SyntaxKind.CLASS_DEFINITION)) {
+                    ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) node;
+                    functions.put(classDefinitionNode.className().text().trim(), node);
                 }
-            }));
+            }
+            return Collections.unmodifiableMap(functions);
         }
-        return path;
     }
 }
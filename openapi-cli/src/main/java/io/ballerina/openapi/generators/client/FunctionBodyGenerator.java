@@ -36,15 +36,16 @@ import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -54,6 +55,7 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -70,10 +72,13 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLitera
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createForEachStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
@@ -88,6 +93,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FOREACH_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IN_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
@@ -114,12 +122,13 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 public class FunctionBodyGenerator {
     private List<ImportDeclarationNode> imports;
     private boolean isHeader;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private final OpenAPI openAPI;
     private final BallerinaSchemaGenerator ballerinaSchemaGenerator;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final GeneratorUtils generatorUtils;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
+    private boolean staticSerialization;
 
     public List<ImportDeclarationNode> getImports() {
         return imports;
@@ -129,19 +138,28 @@ public class FunctionBodyGenerator {
         this.imports = imports;
     }
 
-    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
+    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, TypeDefinitionRegistry typeDefinitionRegistry,
                                  OpenAPI openAPI, BallerinaSchemaGenerator ballerinaSchemaGenerator,
                                  BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
                                  BallerinaUtilGenerator ballerinaUtilGenerator) {
 
         this.imports = imports;
         this.isHeader = false;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
         this.generatorUtils = new GeneratorUtils();
         this.ballerinaAuthConfigGenerator = ballerinaAuthConfigGenerator;
+        this.staticSerialization = false;
+    }
+
+    /**
+     * Serialize the query parameters and headers with statements generated for each parameter, instead of building
+     * maps that the util functions serialize at runtime.
+     */
+    public void setStaticSerialization(boolean staticSerialization) {
+        this.staticSerialization = staticSerialization;
     }
 
     /**
@@ -156,7 +174,7 @@ public class FunctionBodyGenerator {
             throws BallerinaOpenApiException {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         FunctionReturnType functionReturnType = new FunctionReturnType(
-                openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
         isHeader = false;
         // Create statements
         List<StatementNode> statementsList =  new ArrayList<>();
@@ -220,46 +238,62 @@ public class FunctionBodyGenerator {
             }
             if (!queryParameters.isEmpty() || !queryApiKeyNameList.isEmpty()) {
                 ballerinaUtilGenerator.setQueryParamsFound(true);
-                statementsList.add(getMapForParameters(queryParameters, "map<anydata>",
-                        "queryParam", queryApiKeyNameList));
-                VariableDeclarationNode queryParamEncodingMap = getQueryParameterEncodingMap(queryParameters);
-                if (queryParamEncodingMap != null) {
-                    statementsList.add(queryParamEncodingMap);
-                    ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
-                            "path = path + check getPathForQueryParam(queryParam, queryParamEncoding)");
-                    statementsList.add(updatedPath);
+                if (staticSerialization) {
+                    addQueryStringStatements(queryParameters, queryApiKeyNameList, statementsList);
                 } else {
-                    ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
-                            "path = path + check getPathForQueryParam(queryParam)");
-                    statementsList.add(updatedPath);
+                    statementsList.add(getMapForParameters(queryParameters, "map<anydata>",
+                            "queryParam", queryApiKeyNameList));
+                    VariableDeclarationNode queryParamEncodingMap = getQueryParameterEncodingMap(queryParameters);
+                    if (queryParamEncodingMap != null) {
+                        statementsList.add(queryParamEncodingMap);
+                        ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
+                                "path = path + check getPathForQueryParam(queryParam, queryParamEncoding)");
+                        statementsList.add(updatedPath);
+                    } else {
+                        ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
+                                "path = path + check getPathForQueryParam(queryParam)");
+                        statementsList.add(updatedPath);
+                    }
                 }
             }
             if (!headerParameters.isEmpty() || !headerApiKeyNameList.isEmpty()) {
-                statementsList.add(getMapForParameters(headerParameters, "map<any>",
-                        "headerValues", headerApiKeyNameList));
-                statementsList.add(generatorUtils.getSimpleExpressionStatementNode(
-                        "map<string|string[]> accHeaders = getMapForHeaders(headerValues)"));
+                if (staticSerialization) {
+                    addHeaderMapStatements(headerParameters, headerApiKeyNameList, statementsList);
+                } else {
+                    statementsList.add(getMapForParameters(headerParameters, "map<any>",
+                            "headerValues", headerApiKeyNameList));
+                    statementsList.add(generatorUtils.getSimpleExpressionStatementNode(
+                            "map<string|string[]> accHeaders = getMapForHeaders(headerValues)"));
+                    ballerinaUtilGenerator.setHeadersFound(true);
+                }
                 isHeader = true;
-                ballerinaUtilGenerator.setHeadersFound(true);
             }
         } else {
 
             if (!queryApiKeyNameList.isEmpty()) {
                 ballerinaUtilGenerator.setQueryParamsFound(true);
-                statementsList.add(getMapForParameters(new ArrayList<>(), "map<anydata>",
-                        "queryParam", queryApiKeyNameList));
-                // Add updated path
-                ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
-                        "path = path + check getPathForQueryParam(queryParam)");
-                statementsList.add(updatedPath);
+                if (staticSerialization) {
+                    addQueryStringStatements(new ArrayList<>(), queryApiKeyNameList, statementsList);
+                } else {
+                    statementsList.add(getMapForParameters(new ArrayList<>(), "map<anydata>",
+                            "queryParam", queryApiKeyNameList));
+                    // Add updated path
+                    ExpressionStatementNode updatedPath = generatorUtils.getSimpleExpressionStatementNode(
+                            "path = path + check getPathForQueryParam(queryParam)");
+                    statementsList.add(updatedPath);
+                }
             }
             if (!headerApiKeyNameList.isEmpty()) {
-                statementsList.add(getMapForParameters(new ArrayList<>(), "map<any>",
-                        "headerValues", headerApiKeyNameList));
-                statementsList.add(generatorUtils.getSimpleExpressionStatementNode(
-                        "map<string|string[]> accHeaders = getMapForHeaders(headerValues)"));
+                if (staticSerialization) {
+                    addHeaderMapStatements(new ArrayList<>(), headerApiKeyNameList, statementsList);
+                } else {
+                    statementsList.add(getMapForParameters(new ArrayList<>(), "map<any>",
+                            "headerValues", headerApiKeyNameList));
+                    statementsList.add(generatorUtils.getSimpleExpressionStatementNode(
+                            "map<string|string[]> accHeaders = getMapForHeaders(headerValues)"));
+                    ballerinaUtilGenerator.setHeadersFound(true);
+                }
                 isHeader = true;
-                ballerinaUtilGenerator.setHeadersFound(true);
             }
 
         }
@@ -340,6 +374,195 @@ public class FunctionBodyGenerator {
         filedOfMap.add(createToken(COMMA_TOKEN));
     }
 
+    /**
+     * Generate the statements that build the query string from the query parameters. The style and explode of each
+     * parameter are known at generation time, so each parameter is serialized by its own statements instead of being
+     * looked up in a query parameter map and an encoding map by the util functions.
+     *
+     * --ex: {@code string queryString = ""; queryString = queryString + "&limit=" + 'limit.toString();}
+     *
+     * @param queryParameters               List of query parameters defined in a particular function
+     * @param apiKeyNames                   API keys to send as query parameters
+     * @param statementsList                Statements of the function body
+     * @throws BallerinaOpenApiException    When invalid referenced schema is given.
+     */
+    private void addQueryStringStatements(List<Parameter> queryParameters, List<String> apiKeyNames,
+                                          List<StatementNode> statementsList) throws BallerinaOpenApiException {
+        statementsList.add(generatorUtils.getSimpleStatement(STRING, "queryString", "\"\""));
+        for (Parameter parameter : queryParameters) {
+            String paramName = escapeIdentifier(getValidName(parameter.getName().trim(), false));
+            List<StatementNode> paramStatements = getQueryParameterStatements(parameter, paramName);
+            if (isNilableParameter(parameter)) {
+                statementsList.add(getIfStatement(paramName + " !is ()", paramStatements));
+            } else {
+                statementsList.addAll(paramStatements);
+            }
+        }
+        for (String apiKey : apiKeyNames) {
+            statementsList.add(getQueryStringStatement("\"&" + apiKey.trim() + "=\" + getEncodedUri(self." +
+                    API_KEY_CONFIG_PARAM + "." + getValidName(getValidName(apiKey, false), false) + ")"));
+        }
+        statementsList.add(getIfStatement("queryString.length() > 0", Collections.singletonList(
+                generatorUtils.getSimpleExpressionStatementNode("path = path + \"?\" + queryString.substring(1)"))));
+    }
+
+    /**
+     * Generate the statements that append a query parameter to the query string, following the serialization done
+     * by the {@code getPathForQueryParam} util function for the type, style and explode of the parameter.
+     */
+    private List<StatementNode> getQueryParameterStatements(Parameter parameter, String paramName)
+            throws BallerinaOpenApiException {
+        String key = parameter.getName().trim();
+        Parameter.StyleEnum style = parameter.getStyle() != null ? parameter.getStyle() : Parameter.StyleEnum.FORM;
+        boolean explode = parameter.getExplode() == null || parameter.getExplode();
+        Schema schema = getResolvedSchema(parameter.getSchema());
+        if (schema instanceof ArraySchema) {
+            Schema itemSchema = getResolvedSchema(((ArraySchema) schema).getItems());
+            if (itemSchema != null && isPrimitiveType(itemSchema.getType())) {
+                return Collections.singletonList(getArrayQueryParameterStatement(key, paramName,
+                        itemSchema.getType(), style, explode));
+            } else if (itemSchema != null &&
+                    (itemSchema.getProperties() != null || "object".equals(itemSchema.getType()))) {
+                // `getSerializedRecordArray` removes a trailing delimiter, which an empty array does not have
+                String serializedRecords = "getSerializedRecordArray(\"" + key + "\", " + paramName + ", " +
+                        style.toString().toUpperCase(Locale.ROOT) + ", " + explode + ")";
+                return Collections.singletonList(getIfStatement(paramName + ".length() > 0",
+                        Collections.singletonList(getQueryStringStatement("\"&\" + " + serializedRecords))));
+            }
+        } else if (schema != null && (schema.getProperties() != null || "object".equals(schema.getType()))) {
+            String serializedRecord = style == Parameter.StyleEnum.DEEPOBJECT ?
+                    "getDeepObjectStyleRequest(\"" + key + "\", " + paramName + ")" :
+                    "getFormStyleRequest(\"" + key + "\", " + paramName + ", " + explode + ")";
+            return Collections.singletonList(getQueryStringStatement("\"&\" + " + serializedRecord));
+        } else if (schema != null && isPrimitiveType(schema.getType())) {
+            return Collections.singletonList(getQueryStringStatement(
+                    "\"&" + key + "=\" + " + getEncodedValue(schema.getType(), paramName)));
+        }
+        return Collections.singletonList(getQueryStringStatement(
+                "\"&" + key + "=\" + getEncodedUri(" + paramName + ".toString())"));
+    }
+
+    /**
+     * Generate the loop that appends the items of an array query parameter to the query string. Arrays which are not
+     * exploded are written as a single parameter with the delimiter of the style between the items.
+     *
+     * --ex: {@code foreach var queryItem in tags {queryString = queryString + "&tags=" + getEncodedUri(queryItem);}}
+     */
+    private StatementNode getArrayQueryParameterStatement(String key, String paramName, String itemType,
+                                                          Parameter.StyleEnum style, boolean explode) {
+        String delimiter = null;
+        if (style == Parameter.StyleEnum.FORM) {
+            delimiter = ",";
+        } else if (style == Parameter.StyleEnum.SPACEDELIMITED) {
+            delimiter = "%20";
+        } else if (style == Parameter.StyleEnum.PIPEDELIMITED) {
+            delimiter = "|";
+        }
+        TypedBindingPatternNode bindingPattern;
+        String range;
+        String appendedValue;
+        if (!explode && delimiter != null) {
+            bindingPattern = createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("int")),
+                    createCaptureBindingPatternNode(createIdentifierToken("queryIndex")));
+            range = "0 ..< " + paramName + ".length()";
+            appendedValue = "(queryIndex == 0 ? \"&" + key + "=\" : \"" + delimiter + "\") + " +
+                    getEncodedValue(itemType, paramName + "[queryIndex]");
+        } else {
+            bindingPattern = createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("var")),
+                    createCaptureBindingPatternNode(createIdentifierToken("queryItem")));
+            range = paramName;
+            String itemKey = style == Parameter.StyleEnum.DEEPOBJECT ? key + "[]" : key;
+            appendedValue = "\"&" + itemKey + "=\" + " + getEncodedValue(itemType, "queryItem");
+        }
+        return createForEachStatementNode(createToken(FOREACH_KEYWORD), bindingPattern, createToken(IN_KEYWORD),
+                createSimpleNameReferenceNode(createIdentifierToken(range)),
+                createBlockStatementNode(createToken(OPEN_BRACE_TOKEN),
+                        createNodeList(getQueryStringStatement(appendedValue)), createToken(CLOSE_BRACE_TOKEN)),
+                null);
+    }
+
+    /**
+     * Generate the statements that build the header map from the headers. Only the string and string array headers
+     * are added, as done by the {@code getMapForHeaders} util function, and the optional ones only when given.
+     *
+     * --ex: {@code map<string|string[]> accHeaders = {}; if xDate is string {accHeaders["x-date"] = xDate;}}
+     */
+    private void addHeaderMapStatements(List<Parameter> headerParameters, List<String> apiKeyNames,
+                                        List<StatementNode> statementsList) throws BallerinaOpenApiException {
+        List<Parameter> givenHeaders = new ArrayList<>();
+        List<StatementNode> optionalHeaderStatements = new ArrayList<>();
+        for (Parameter parameter : headerParameters) {
+            // the types of the headers are resolved as in getMapForHeaders, which sends any string or string[]
+            Schema schema = getResolvedSchema(parameter.getSchema());
+            Schema itemSchema = schema instanceof ArraySchema ?
+                    getResolvedSchema(((ArraySchema) schema).getItems()) : null;
+            String headerType;
+            if (schema != null && STRING.equals(schema.getType())) {
+                headerType = STRING;
+            } else if (itemSchema != null && STRING.equals(itemSchema.getType())) {
+                headerType = "string[]";
+            } else {
+                continue;
+            }
+            if (isNilableParameter(parameter)) {
+                String paramName = escapeIdentifier(getValidName(parameter.getName().trim(), false));
+                optionalHeaderStatements.add(getIfStatement(paramName + " is " + headerType,
+                        Collections.singletonList(generatorUtils.getSimpleExpressionStatementNode(
+                                "accHeaders[\"" + parameter.getName().trim() + "\"] = " + paramName))));
+            } else {
+                givenHeaders.add(parameter);
+            }
+        }
+        statementsList.add(getMapForParameters(givenHeaders, "map<string|string[]>", "accHeaders", apiKeyNames));
+        statementsList.addAll(optionalHeaderStatements);
+    }
+
+    /**
+     * Returns the schema a parameter schema refers to, or the given schema when it is not a reference.
+     */
+    private Schema getResolvedSchema(Schema schema) throws BallerinaOpenApiException {
+        if (schema != null && schema.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getSchemas() != null) {
+            return openAPI.getComponents().getSchemas().get(extractReferenceType(schema.get$ref()));
+        }
+        return schema;
+    }
+
+    /**
+     * A parameter is nil when the caller does not give it, which is when it is optional and has no default value.
+     */
+    private static boolean isNilableParameter(Parameter parameter) {
+        return !Boolean.TRUE.equals(parameter.getRequired()) &&
+                (parameter.getSchema() == null || parameter.getSchema().getDefault() == null);
+    }
+
+    private static boolean isPrimitiveType(String type) {
+        return STRING.equals(type) || "integer".equals(type) || "boolean".equals(type) || "number".equals(type);
+    }
+
+    /**
+     * Returns the expression for the URL encoded value. Integers and booleans do not need to be encoded.
+     */
+    private static String getEncodedValue(String type, String value) {
+        if ("integer".equals(type) || "boolean".equals(type)) {
+            return value + ".toString()";
+        } else if (STRING.equals(type)) {
+            return "getEncodedUri(" + value + ")";
+        }
+        return "getEncodedUri(" + value + ".toString())";
+    }
+
+    private ExpressionStatementNode getQueryStringStatement(String appendedValue) {
+        return generatorUtils.getSimpleExpressionStatementNode("queryString = queryString + " + appendedValue);
+    }
+
+    private static StatementNode getIfStatement(String condition, List<StatementNode> statements) {
+        return createIfElseStatementNode(createToken(IF_KEYWORD),
+                createSimpleNameReferenceNode(createIdentifierToken(condition)),
+                createBlockStatementNode(createToken(OPEN_BRACE_TOKEN), createNodeList(statements),
+                        createToken(CLOSE_BRACE_TOKEN)), null);
+    }
+
 
     /**
      * Provides the list of security schemes available for the given operation.
@@ -434,9 +657,7 @@ public class FunctionBodyGenerator {
             clientCallStatement = "check self.clientEp->" + method + "(path)";
         }
         //Return Variable
-        VariableDeclarationNode clientCall = generatorUtils.getSimpleStatement(returnType, RESPONSE,
-                clientCallStatement);
-        statementsList.add(clientCall);
+        addClientCallStatements(statementsList, returnType, clientCallStatement);
         Token returnKeyWord = createIdentifierToken("return");
         SimpleNameReferenceNode returns = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
         ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returns,
@@ -444,6 +665,39 @@ public class FunctionBodyGenerator {
         statementsList.add(returnStatementNode);
     }
 
+    /**
+     * Generate the statements that send the request and bind the response to the `response` variable. The items of
+     * a streamed JSON array response are read from the byte stream of the response and converted one at a time.
+     *
+     * --ex: {@code stream<Pet, error?> response = stream from json item in items select check
+     * item.cloneWithType(Pet);}
+     */
+    private void addClientCallStatements(List<StatementNode> statementsList, String returnType,
+                                         String clientCallStatement) {
+        if (!returnType.startsWith("stream<")) {
+            statementsList.add(generatorUtils.getSimpleStatement(returnType, RESPONSE, clientCallStatement));
+            return;
+        }
+        ballerinaUtilGenerator.setJsonArrayStreamFound(true);
+        String itemType = returnType.substring("stream<".length(), returnType.lastIndexOf(','));
+        statementsList.add(generatorUtils.getSimpleStatement("http:Response", "httpResponse", clientCallStatement));
+        // The payload of an error response is not the array, hence the status is checked before streaming it
+        List<StatementNode> errorStatements = new ArrayList<>();
+        errorStatements.add(generatorUtils.getSimpleStatement("var", "errorPayload",
+                "check httpResponse.getByteStream()"));
+        errorStatements.add(generatorUtils.getSimpleExpressionStatementNode("check errorPayload.close()"));
+        errorStatements.add(createReturnStatementNode(createIdentifierToken("return"),
+                createSimpleNameReferenceNode(createIdentifierToken(
+                        "error(\"Request failed with the status code \" + httpResponse.statusCode.toString())")),
+                createToken(SEMICOLON_TOKEN)));
+        statementsList.add(getIfStatement("httpResponse.statusCode < 200 || httpResponse.statusCode > 299",
+                errorStatements));
+        statementsList.add(generatorUtils.getSimpleStatement("stream<json, error?>", "items",
+                "new stream<json, error?>(new JsonArrayStream(check httpResponse.getByteStream()))"));
+        statementsList.add(generatorUtils.getSimpleStatement(returnType, RESPONSE,
+                "stream from json item in items select check item.cloneWithType(" + itemType + ")"));
+    }
+
     /**
      * This method use to generate Path statement inside the function body node.
      *
@@ -532,15 +786,11 @@ public class FunctionBodyGenerator {
             statementsList.add(expressionStatementNode);
         }
         // POST, PUT, PATCH, DELETE, EXECUTE
-        VariableDeclarationNode requestStatement =
-                generatorUtils.getSimpleStatement(returnType, RESPONSE, "check self.clientEp->"
-                        + method + "(path," + " request)");
         if (isHeader) {
             if (method.equals(POST) || method.equals(PUT) || method.equals(PATCH) || method.equals(DELETE)
                     || method.equals(EXECUTE)) {
-                requestStatement = generatorUtils.getSimpleStatement(returnType, RESPONSE,
+                addClientCallStatements(statementsList, returnType,
                         "check self.clientEp->" + method + "(path, request, headers = accHeaders)");
-                statementsList.add(requestStatement);
                 Token returnKeyWord = createIdentifierToken("return");
                 SimpleNameReferenceNode returns = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
                 ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returns,
@@ -548,7 +798,8 @@ public class FunctionBodyGenerator {
                 statementsList.add(returnStatementNode);
             }
         } else {
-            statementsList.add(requestStatement);
+            addClientCallStatements(statementsList, returnType,
+                    "check self.clientEp->" + method + "(path," + " request)");
             Token returnKeyWord = createIdentifierToken("return");
             SimpleNameReferenceNode returnVariable = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
             ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returnVariable,
@@ -734,7 +985,9 @@ public class FunctionBodyGenerator {
             }
         }
 
-        filedOfMap.remove(filedOfMap.size() - 1);
+        if (!filedOfMap.isEmpty()) {
+            filedOfMap.remove(filedOfMap.size() - 1);
+        }
         MappingConstructorExpressionNode initialize = createMappingConstructorExpressionNode(
                 createToken(OPEN_BRACE_TOKEN), createSeparatedNodeList(filedOfMap),
                 createToken(CLOSE_BRACE_TOKEN));
@@ -24,6 +24,7 @@ import io.ballerina.openapi.converter.Constants;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -39,7 +40,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,7 +50,9 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdenti
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.JSON_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_STREAM;
 import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
@@ -62,22 +64,23 @@ import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
 public class FunctionReturnType {
     private OpenAPI openAPI;
     private BallerinaSchemaGenerator ballerinaSchemaGenerator;
-    private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+    private TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
     private GeneratorUtils generatorUtils = new GeneratorUtils();
 
 
     public FunctionReturnType() {}
 
     public FunctionReturnType(OpenAPI openAPI, BallerinaSchemaGenerator ballerinaSchemaGenerator,
-                              List<TypeDefinitionNode> typeDefinitionNodeList) {
+                              TypeDefinitionRegistry typeDefinitionRegistry) {
 
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
     }
 
     /**
-     * Get return type of the remote function.
+     * Get return type of the remote function. A JSON array response of an operation with the
+     * {@code x-ballerina-stream: true} extension is returned as a {@code stream<T, error?>} of its items.
      *
      * @param operation     swagger operation.
      * @return              string with return type.
@@ -101,6 +104,11 @@ public class FunctionReturnType {
                         if (media.getValue().getSchema() != null) {
                             Schema schema = media.getValue().getSchema();
                             type = getDataType(operation, isSignature, response, media, type, schema);
+                            if (schema instanceof ArraySchema && isStreamedOperation(operation) &&
+                                    JSON_KEYWORD.stringValue().equals(
+                                            generatorUtils.getBallerinaMediaType(media.getKey().trim()))) {
+                                type = getStreamType(type);
+                            }
                         } else {
                             type = generatorUtils.getBallerinaMediaType(media.getKey().trim());
                         }
@@ -120,6 +128,32 @@ public class FunctionReturnType {
         return returnType;
     }
 
+    /**
+     * Check whether the operation asks for the items of its array response to be returned as a stream, through the
+     * {@code x-ballerina-stream} extension.
+     */
+    private static boolean isStreamedOperation(Operation operation) {
+        return operation.getExtensions() != null &&
+                Boolean.parseBoolean(String.valueOf(operation.getExtensions().get(X_BALLERINA_STREAM)));
+    }
+
+    /**
+     * Get the stream type for the items of an array type. The items are converted with {@code cloneWithType}, hence
+     * arrays whose items are arrays themselves, and the named array types of the target type field, are not streamed.
+     *
+     * --ex: {@code Pet[]} is returned as {@code stream<Pet, error?>}
+     */
+    private static String getStreamType(String arrayType) {
+        if (!arrayType.endsWith("[]")) {
+            return arrayType;
+        }
+        String itemType = arrayType.substring(0, arrayType.length() - 2);
+        if (itemType.contains("[")) {
+            return arrayType;
+        }
+        return "stream<" + itemType + ", error?>";
+    }
+
     /**
      * Get return data type by traversing OAS schemas.
      */
@@ -353,24 +387,13 @@ public class FunctionReturnType {
     }
 
     /**
-     * This util function for update the typeDefinition node after check it duplicates.
+     * This util function for update the typeDefinition node after check it duplicates. The inline types are
+     * registered before the component schemas, which fail to generate if they clash with one of them.
      *
      * @param typeName      - Given Node name
      * @param typeDefNode   - Generated Node
      */
     public void updateTypeDefinitionNodeList(String typeName, TypeDefinitionNode typeDefNode) {
-        boolean isExit = false;
-        if (!typeDefinitionNodeList.isEmpty()) {
-            for (TypeDefinitionNode typeNode: typeDefinitionNodeList) {
-                if (typeNode.typeName().toString().trim().equals(typeName)) {
-                    isExit = true;
-                }
-            }
-            if (!isExit) {
-                typeDefinitionNodeList.add(typeDefNode);
-            }
-        } else {
-            typeDefinitionNodeList.add(typeDefNode);
-        }
+        typeDefinitionRegistry.register(typeName, typeDefNode);
     }
 }
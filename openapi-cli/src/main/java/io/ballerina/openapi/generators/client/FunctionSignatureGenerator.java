@@ -39,6 +39,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -97,24 +98,24 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 public class FunctionSignatureGenerator {
     private final OpenAPI openAPI;
     private final BallerinaSchemaGenerator ballerinaSchemaGenerator;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private FunctionReturnType functionReturnType;
     private GeneratorUtils generatorUtils;
     private boolean deprecatedParamFound = false;
 
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
-        return typeDefinitionNodeList;
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+        return typeDefinitionRegistry;
     }
 
     public FunctionSignatureGenerator(OpenAPI openAPI,
                                       BallerinaSchemaGenerator ballerinaSchemaGenerator,
-                                      List<TypeDefinitionNode> typeDefinitionNodeList) {
+                                      TypeDefinitionRegistry typeDefinitionRegistry) {
 
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.generatorUtils = new GeneratorUtils();
-        this.functionReturnType =  new FunctionReturnType(openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+        this.functionReturnType =  new FunctionReturnType(openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
 
     }
 
@@ -129,7 +130,7 @@ public class FunctionSignatureGenerator {
             throws BallerinaOpenApiException {
         // Store the parameters for method.
         List<Node> parameterList =  new ArrayList<>();
-        functionReturnType =  new FunctionReturnType(openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+        functionReturnType =  new FunctionReturnType(openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
         setFunctionParameters(operation, parameterList, createToken(COMMA_TOKEN), remoteFunctionDoc);
 
         if (parameterList.size() >= 2) {
@@ -368,8 +369,12 @@ public class FunctionSignatureGenerator {
     private Node getHeaderParameter(Parameter parameter, NodeList<AnnotationNode> parameterAnnotationNodeList)
             throws BallerinaOpenApiException {
         Schema schema = parameter.getSchema();
+        // a header referring to a schema has the type generated for the schema
+        String referredType = schema.get$ref() != null ?
+                getValidName(extractReferenceType(schema.get$ref()), true) : null;
         if (parameter.getRequired()) {
-            String type = convertOpenAPITypeToBallerina(parameter.getSchema().getType().trim());
+            String type = referredType != null ? referredType :
+                    convertOpenAPITypeToBallerina(parameter.getSchema().getType().trim());
 
             if (schema instanceof ArraySchema) {
                 ArraySchema arraySchema = (ArraySchema) schema;
@@ -387,7 +392,14 @@ public class FunctionSignatureGenerator {
         } else {
             IdentifierToken paramName = createIdentifierToken(escapeIdentifier(getValidName(parameter.getName().trim(),
                     false)));
-            if (schema.getDefault() != null) {
+            if (referredType != null) {
+                BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
+                        createIdentifierToken(referredType + "?"));
+                NilLiteralNode nilLiteralNode =
+                        createNilLiteralNode(createToken(OPEN_PAREN_TOKEN), createToken(CLOSE_PAREN_TOKEN));
+                return createDefaultableParameterNode(parameterAnnotationNodeList, typeName, paramName,
+                        createToken(EQUAL_TOKEN), nilLiteralNode);
+            } else if (schema.getDefault() != null) {
                 BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
                         createIdentifierToken(convertOpenAPITypeToBallerina(
                                 parameter.getSchema().getType().trim())));
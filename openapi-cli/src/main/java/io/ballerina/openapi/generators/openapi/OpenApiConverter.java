@@ -24,7 +24,6 @@ import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.service.OASResult;
-import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
@@ -35,12 +34,19 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.ProjectLoader;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * OpenApi related utility classes.
@@ -72,6 +78,23 @@ public class OpenApiConverter {
      */
     public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
                                                   Boolean needJson) {
+        generateOAS3DefinitionsAllService(servicePath, outPath, serviceName, needJson, false);
+    }
+
+    /**
+     * This util for generating OAS files. When {@code parallel} is set, the definitions of the services are
+     * serialized and written concurrently, while the diagnostics are still reported in the order of the services.
+     * The services are always converted on the calling thread, since the semantic model is not safe to query from
+     * several threads at once.
+     *
+     * @param servicePath The path to a single ballerina file.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param needJson    Generate the OpenAPI specifications in JSON format instead of YAML.
+     * @param parallel    Generate the OpenAPI specifications of the services concurrently.
+     */
+    public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
+                                                  Boolean needJson, boolean parallel) {
         // Load project instance for single ballerina file
         project = ProjectLoader.loadProject(servicePath);
         Package packageName = project.currentPackage();
@@ -94,27 +117,76 @@ public class OpenApiConverter {
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree,
                 semanticModel, serviceName, needJson, outPath);
 
-        if (!openAPIDefinitions.isEmpty()) {
+        if (parallel && openAPIDefinitions.size() > 1) {
+            writeDefinitionsInParallel(openAPIDefinitions, outPath, needJson);
+        } else {
             for (OASResult definition : openAPIDefinitions) {
+                this.errors.addAll(definition.getDiagnostics());
+                writeDefinition(definition, outPath, needJson).ifPresent(this.errors::add);
+            }
+        }
+    }
+
+    /**
+     * Serialize and write the definitions on the shared writer pool. The write errors are collected in the order of
+     * the definitions, so the reported diagnostics do not depend on the scheduling.
+     */
+    private void writeDefinitionsInParallel(List<OASResult> openAPIDefinitions, Path outPath, Boolean needJson) {
+        List<Future<Optional<OpenAPIConverterDiagnostic>>> writes = new ArrayList<>();
+        try {
+            for (OASResult definition : openAPIDefinitions) {
+                writes.add(WriterPool.EXECUTOR.submit(() -> writeDefinition(definition, outPath, needJson)));
+            }
+            for (int i = 0; i < openAPIDefinitions.size(); i++) {
+                this.errors.addAll(openAPIDefinitions.get(i).getDiagnostics());
                 try {
-                    this.errors.addAll(definition.getDiagnostics());
-                    if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
-                        CodegenUtils.writeFile(outPath.resolve(definition.getServiceName()), content.get());
-                    }
-                } catch (IOException e) {
-                    DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
-                    ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                            message.getDescription() + e.getLocalizedMessage(),
-                            null);
-                    this.errors.add(error);
+                    writes.get(i).get().ifPresent(this.errors::add);
+                } catch (ExecutionException e) {
+                    this.errors.add(createWriteError(e.getCause().getLocalizedMessage()));
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.errors.add(createWriteError(e.getLocalizedMessage()));
+            // the pool is shared, hence only the writes of this conversion are cancelled
+            writes.forEach(write -> write.cancel(true));
+        }
+    }
+
+    private Optional<OpenAPIConverterDiagnostic> writeDefinition(OASResult definition, Path outPath,
+                                                                 Boolean needJson) {
+        if (definition.getOpenAPI().isEmpty()) {
+            return Optional.empty();
+        }
+        // stream the definition to the file, instead of serializing it to a string first
+        try (OutputStream outputStream = new BufferedOutputStream(
+                Files.newOutputStream(outPath.resolve(definition.getServiceName())))) {
+            if (needJson) {
+                definition.writeJson(outputStream);
+            } else {
+                definition.writeYaml(outputStream);
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            return Optional.of(createWriteError(e.getLocalizedMessage()));
         }
     }
+
+    private static ExceptionDiagnostic createWriteError(String reason) {
+        DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
+        return new ExceptionDiagnostic(message.getCode(), message.getDescription() + reason, null);
+    }
+
+    /**
+     * Holds the pool shared by the parallel conversions of the process, which is created on the first use. The pool
+     * has a thread per processor, and its daemon threads do not keep the process alive.
+     */
+    private static final class WriterPool {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "openapi-definition-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
 }
@@ -41,6 +41,7 @@ import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.Components;
@@ -52,10 +53,14 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -84,6 +89,7 @@ import static io.ballerina.openapi.generators.GeneratorUtils.SINGLE_WS_MINUTIAE;
 import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.generators.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
+import static io.ballerina.openapi.generators.GeneratorUtils.getSchemasWithValidNames;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
 
@@ -92,9 +98,10 @@ import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
  *while populating syntax tree.
  */
 public class BallerinaSchemaGenerator {
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
     private final boolean isNullable;
     private final OpenAPI openAPI;
+    private boolean isParallel;
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -106,7 +113,7 @@ public class BallerinaSchemaGenerator {
     public BallerinaSchemaGenerator(OpenAPI openAPI, boolean isNullable) {
         this.openAPI = openAPI;
         this.isNullable = isNullable;
-        this.typeDefinitionNodeList = new LinkedList<>();
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
     }
 
     /**
@@ -120,16 +127,23 @@ public class BallerinaSchemaGenerator {
     }
 
     /**
-     * Returns a list of type definition nodes.
+     * Returns the registry of the type definitions.
      */
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
-        return typeDefinitionNodeList;
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+        return typeDefinitionRegistry;
     }
     /**
-     * Set the typeDefinitionNodeList.
+     * Set the typeDefinitionRegistry, to add the type definitions of the schemas to the ones of the client.
      */
-    public void setTypeDefinitionNodeList(List<TypeDefinitionNode> typeDefinitionNodeList) {
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
+    }
+
+    /**
+     * Set whether the type definitions of the component schemas are generated concurrently.
+     */
+    public void setParallel(boolean isParallel) {
+        this.isParallel = isParallel;
     }
 
     /**
@@ -143,15 +157,12 @@ public class BallerinaSchemaGenerator {
             Components components = openAPI.getComponents();
             Map<String, Schema> componentsSchemas = components.getSchemas();
             if (componentsSchemas != null) {
-                Map<String, Schema> refacSchema = new HashMap<>();
-                for (Map.Entry<String, Schema> schemaEntry: componentsSchemas.entrySet()) {
-                    String name = getValidName(schemaEntry.getKey(), true);
-                    refacSchema.put(name, schemaEntry.getValue());
-                }
-                openAPI.getComponents().setSchemas(refacSchema);
+                openAPI.getComponents().setSchemas(getSchemasWithValidNames(componentsSchemas));
             }
             Map<String, Schema> schemas = components.getSchemas();
-            if (schemas != null) {
+            if (schemas != null && isParallel && schemas.size() > 1) {
+                generateTypeDefinitionNodesInParallel(schemas);
+            } else if (schemas != null) {
                 for (Map.Entry<String, Schema> schema: schemas.entrySet()) {
                     List<Node> schemaDoc = new ArrayList<>();
                     if (schema.getValue().getDescription() != null) {
@@ -160,8 +171,10 @@ public class BallerinaSchemaGenerator {
                     }
                     List<String> required = schema.getValue().getRequired();
                     if (isValidSchemaName(schema.getKey().trim())) {
-                        generateTypeDefinitionNode(typeDefinitionNodeList, schema.getValue(), schemaDoc, required,
+                        List<TypeDefinitionNode> schemaTypeDefinitions = new ArrayList<>();
+                        generateTypeDefinitionNode(schemaTypeDefinitions, schema.getValue(), schemaDoc, required,
                                 schema.getKey().trim());
+                        registerTypeDefinitions(schema.getKey().trim(), schemaTypeDefinitions);
                     }
                 }
             }
@@ -169,6 +182,7 @@ public class BallerinaSchemaGenerator {
         //Create imports
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createEmptyNodeList();
         // Create module member declaration
+        List<TypeDefinitionNode> typeDefinitionNodeList = typeDefinitionRegistry.getTypeDefinitionNodes();
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createNodeList(
                 typeDefinitionNodeList.toArray(new TypeDefinitionNode[typeDefinitionNodeList.size()]));
 
@@ -180,6 +194,81 @@ public class BallerinaSchemaGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate the type definitions of the component schemas on a fork join pool. The type definitions of a schema
+     * only read the OpenAPI definition, hence the schemas are independent. They are collected into a map keyed by
+     * the schema name and emitted in the order of the names, so the output does not depend on the scheduling.
+     */
+    private void generateTypeDefinitionNodesInParallel(Map<String, Schema> schemas) throws BallerinaOpenApiException {
+        Map<String, List<TypeDefinitionNode>> schemaTypeDefinitionMap = new ConcurrentHashMap<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            String schemaName = schema.getKey().trim();
+            if (!isValidSchemaName(schemaName)) {
+                continue;
+            }
+            tasks.add(() -> {
+                Schema<?> schemaValue = schema.getValue();
+                List<Node> schemaDoc = new ArrayList<>();
+                if (schemaValue.getDescription() != null) {
+                    schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(schemaValue.getDescription(),
+                            false));
+                }
+                List<TypeDefinitionNode> schemaTypeDefinitions = new ArrayList<>();
+                generateTypeDefinitionNode(schemaTypeDefinitions, schemaValue, schemaDoc, schemaValue.getRequired(),
+                        schemaName);
+                schemaTypeDefinitionMap.put(schemaName, schemaTypeDefinitions);
+                return null;
+            });
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaOpenApiException("Interrupted while generating the type definitions.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            pool.shutdownNow();
+        }
+        for (Map.Entry<String, List<TypeDefinitionNode>> schemaTypeDefinitions :
+                new TreeMap<>(schemaTypeDefinitionMap).entrySet()) {
+            registerTypeDefinitions(schemaTypeDefinitions.getKey(), schemaTypeDefinitions.getValue());
+        }
+    }
+
+    /**
+     * Register the type definitions generated for a component schema. A different type definition of the same name,
+     * such as the inline type of a response, is already referred by the client, hence the schema cannot be dropped or
+     * renamed.
+     */
+    private void registerTypeDefinitions(String schemaName, List<TypeDefinitionNode> schemaTypeDefinitions)
+            throws BallerinaOpenApiException {
+        for (TypeDefinitionNode typeDefinitionNode : schemaTypeDefinitions) {
+            if (!typeDefinitionRegistry.register(typeDefinitionNode)) {
+                throw new BallerinaOpenApiException("The type '" + typeDefinitionNode.typeName().text() +
+                        "' generated for the schema '" + schemaName + "' clashes with another type of the same " +
+                        "name. Rename the schema to generate the types.");
+            }
+        }
+    }
+
     /**
      * Generated typeDefinitionNode for openAPI schema. This types includes in the types.bal file.
      */
@@ -237,3 +237,96 @@ isolated function getMapForHeaders(map<any> headerParam) returns map<string|stri
     }
     return headerMap;
 }
+
+# Iterates the items of a JSON array payload, reading the payload only as far as the next item.
+class JsonArrayStream {
+    private final stream<byte[], error?> byteStream;
+    private byte[] chunk = [];
+    private int index = 0;
+    private boolean started = false;
+    private boolean ended = false;
+    private boolean closed = false;
+
+    isolated function init(stream<byte[], error?> byteStream) {
+        self.byteStream = byteStream;
+    }
+
+    # Read the next item of the JSON array. The payload is closed at the end of the array and on an error.
+    #
+    # + return - Next item, nil at the end of the array or an error if the payload is not a valid JSON array
+    public isolated function next() returns record {| json value; |}|error? {
+        record {| json value; |}|error? item = self.readItem();
+        if item is error {
+            // The rest of the payload can not be read, hence the connection is released
+            error? closeResult = self.close();
+        }
+        return item;
+    }
+
+    # Close the payload, which releases the connection of the response when the items are not read to the end.
+    #
+    # + return - An error if the payload could not be closed
+    public isolated function close() returns error? {
+        if !self.closed {
+            self.closed = true;
+            self.ended = true;
+            return self.byteStream.close();
+        }
+    }
+
+    private isolated function readItem() returns record {| json value; |}|error? {
+        byte[] item = [];
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while !self.ended {
+            if self.index == self.chunk.length() {
+                record {| byte[] value; |}? nextChunk = check self.byteStream.next();
+                if nextChunk is () {
+                    return error("Payload ended before the end of the JSON array");
+                }
+                self.chunk = nextChunk.value;
+                self.index = 0;
+                continue;
+            }
+            byte character = self.chunk[self.index];
+            self.index += 1;
+            if !self.started {
+                // Skip the whitespace before `[`
+                if character == 91 {
+                    self.started = true;
+                } else if character != 32 && character != 9 && character != 10 && character != 13 {
+                    return error("Payload is not a JSON array");
+                }
+            } else if inString {
+                item.push(character);
+                if escaped {
+                    escaped = false;
+                } else if character == 92 {
+                    escaped = true;
+                } else if character == 34 {
+                    inString = false;
+                }
+            } else if depth == 0 && (character == 44 || character == 93) {
+                // `,` or `]` ends the current item
+                if character == 93 {
+                    check self.close();
+                }
+                string itemString = (check string:fromBytes(item)).trim();
+                if itemString.length() > 0 {
+                    return {value: check itemString.fromJsonString()};
+                }
+            } else {
+                if character == 34 {
+                    inString = true;
+                } else if character == 91 || character == 123 {
+                    depth += 1;
+                } else if character == 93 || character == 125 {
+                    depth -= 1;
+                }
+                item.push(character);
+            }
+        }
+        return;
+    }
+}
@@ -17,6 +17,7 @@ package io.ballerina.openapi;
 
 import io.ballerina.openapi.cmd.CodeGenerator;
 import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.GenerationManifest;
 import io.ballerina.openapi.cmd.model.GenSrcFile;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.GeneratorConstants;
@@ -33,8 +34,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -106,6 +109,115 @@ public class CodeGeneratorTest {
         }
     }
 
+    @Test(description = "Test the client generation is skipped when the contract and the outputs are unchanged")
+    public void generateClientUpToDate() throws IOException, BallerinaOpenApiException, FormatterException {
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        Path outputPath = Files.createTempDirectory("openapi-up-to-date");
+        try {
+            new CodeGenerator().generateClient(definitionPath, "openapipetstore", outputPath.toString(), filter,
+                    false);
+            Path clientPath = outputPath.resolve(CLIENT_FILE_NAME);
+            Assert.assertTrue(Files.exists(outputPath.resolve(GenerationManifest.MANIFEST_FILE_NAME)));
+            String clientContent = Files.readString(clientPath);
+            Path typesPath = outputPath.resolve(TYPE_FILE_NAME);
+            FileTime typesModifiedTime = Files.getLastModifiedTime(typesPath);
+
+            // a modified output is generated again, while the unchanged outputs are not rewritten
+            Files.writeString(clientPath, "// modified");
+            new CodeGenerator().generateClient(definitionPath, "openapipetstore", outputPath.toString(), filter,
+                    false);
+            Assert.assertEquals(Files.readString(clientPath), clientContent);
+            Assert.assertEquals(Files.getLastModifiedTime(typesPath), typesModifiedTime);
+
+            Optional<GenerationManifest> manifest = GenerationManifest.read(outputPath);
+            Assert.assertTrue(manifest.isPresent());
+            Assert.assertTrue(manifest.get().isGeneratedFile(outputPath, clientPath));
+        } finally {
+            FileUtils.deleteDirectory(outputPath.toFile());
+        }
+    }
+
+    @Test(description = "Test the client is generated again when only a file referred by the contract changes")
+    public void generateClientWithChangedReference() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path contractDir = Files.createTempDirectory("openapi-reference");
+        Path outputPath = contractDir.resolve("output");
+        try {
+            Files.writeString(contractDir.resolve("openapi.yaml"), String.join("\n",
+                    "openapi: 3.0.0",
+                    "info:",
+                    "  title: Pets",
+                    "  version: 1.0.0",
+                    "servers:",
+                    "  - url: http://localhost:9090/v1",
+                    "paths:",
+                    "  /pets:",
+                    "    get:",
+                    "      operationId: listPets",
+                    "      responses:",
+                    "        '200':",
+                    "          description: The pets",
+                    "          content:",
+                    "            application/json:",
+                    "              schema:",
+                    "                $ref: 'pet.yaml#/components/schemas/Pet'"));
+            Path referencePath = contractDir.resolve("pet.yaml");
+            String pet = String.join("\n",
+                    "components:",
+                    "  schemas:",
+                    "    Pet:",
+                    "      type: object",
+                    "      properties:",
+                    "        name:",
+                    "          type: string");
+            Files.writeString(referencePath, pet);
+            String definitionPath = contractDir.resolve("openapi.yaml").toString();
+            new CodeGenerator().generateClient(definitionPath, "pets", outputPath.toString(), filter, false);
+            Assert.assertFalse(Files.readString(outputPath.resolve(TYPE_FILE_NAME)).contains("nickname"));
+
+            Files.writeString(referencePath, String.join("\n", pet,
+                    "        nickname:",
+                    "          type: string"));
+            new CodeGenerator().generateClient(definitionPath, "pets", outputPath.toString(), filter, false);
+            Assert.assertTrue(Files.readString(outputPath.resolve(TYPE_FILE_NAME)).contains("nickname"));
+        } finally {
+            FileUtils.deleteDirectory(contractDir.toFile());
+        }
+    }
+
+    @Test(description = "Test the client is generated when a $ref found in the contract text is not a readable file")
+    public void generateClientWithUnreadableReference() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path contractDir = Files.createTempDirectory("openapi-reference");
+        Path outputPath = contractDir.resolve("output");
+        try {
+            Files.writeString(contractDir.resolve("openapi.yaml"), String.join("\n",
+                    "openapi: 3.0.0",
+                    "info:",
+                    "  title: Pets",
+                    "  version: 1.0.0",
+                    "  description: 'Refer to the shared schemas with $ref: missing.yaml#/components/schemas/Pet'",
+                    "servers:",
+                    "  - url: http://localhost:9090/v1",
+                    "paths:",
+                    "  /pets:",
+                    "    get:",
+                    "      operationId: listPets",
+                    "      responses:",
+                    "        '200':",
+                    "          description: The pets",
+                    "          content:",
+                    "            application/json:",
+                    "              schema:",
+                    "                type: string"));
+            new CodeGenerator().generateClient(contractDir.resolve("openapi.yaml").toString(), "pets",
+                    outputPath.toString(), filter, false);
+            Assert.assertTrue(Files.exists(outputPath.resolve(CLIENT_FILE_NAME)));
+        } finally {
+            FileUtils.deleteDirectory(contractDir.toFile());
+        }
+    }
+
     @Test(description = "Test duplicated files generation")
     public void generateDuplicatedFiles() {
         List<File> duplicatedFileList = new ArrayList<>();
@@ -522,6 +634,7 @@ public class CodeGeneratorTest {
             Files.deleteIfExists(resourcePath.resolve("utils.bal"));
             Files.deleteIfExists(resourcePath.resolve("test.bal"));
             Files.deleteIfExists(resourcePath.resolve("Config.toml"));
+            Files.deleteIfExists(resourcePath.resolve(GenerationManifest.MANIFEST_FILE_NAME));
             FileUtils.deleteDirectory(new File(resourcePath + "/tests"));
         } catch (IOException ignored) {
         }
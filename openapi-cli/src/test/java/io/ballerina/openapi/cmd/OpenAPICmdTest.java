@@ -18,6 +18,7 @@
 package io.ballerina.openapi.cmd;
 
 import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.openapi.cmd.model.BatchContract;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
@@ -31,6 +32,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -400,6 +403,60 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         FileUtils.deleteDirectory(testDir);
     }
 
+    @Test(description = "Test openapi batch generation of the contracts given in a manifest")
+    public void testBatchGenerationWithManifest() throws IOException {
+        Path manifest = this.tmpDir.resolve("batch.yaml");
+        Files.writeString(manifest, "contracts:" + LINE_SEPARATOR +
+                "  - contract: '" + resourceDir.resolve("petstore.yaml") + "'" + LINE_SEPARATOR +
+                "    output: batch/petstore" + LINE_SEPARATOR +
+                "    mode: client" + LINE_SEPARATOR +
+                "  - contract: '" + resourceDir.resolve("petstore_type.yaml") + "'" + LINE_SEPARATOR +
+                "    output: batch/petstore_type" + LINE_SEPARATOR +
+                "    mode: service" + LINE_SEPARATOR);
+        String[] args = {"--batch", manifest.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Generated 2 of 2 contracts"), output);
+        Path outputDir = this.tmpDir.resolve("batch");
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore/client.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore/types.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore_type/petstore_type_service.bal")));
+        Assert.assertFalse(Files.exists(outputDir.resolve("petstore_type/client.bal")));
+        FileUtils.deleteDirectory(outputDir.toFile());
+    }
+
+    @Test(description = "Test only the extension is stripped from the contract names of a batch")
+    public void testBatchContractNamesWithDots() throws IOException, BallerinaOpenApiException {
+        Path batchDir = Files.createDirectories(this.tmpDir.resolve("batch_names"));
+        Files.copy(resourceDir.resolve("petstore.yaml"), batchDir.resolve("api.v1.yaml"));
+        Files.copy(resourceDir.resolve("petstore.yaml"), batchDir.resolve("api.v2.yaml"));
+        List<BatchContract> contracts = BatchGenerator.readContracts(batchDir, this.tmpDir, null,
+                new Filter(new ArrayList<>(), new ArrayList<>()), false, false, false);
+        Assert.assertEquals(contracts.size(), 2);
+        Assert.assertEquals(contracts.get(0).getOutputPath(), this.tmpDir.resolve("api.v1"));
+        Assert.assertEquals(contracts.get(1).getOutputPath(), this.tmpDir.resolve("api.v2"));
+        FileUtils.deleteDirectory(batchDir.toFile());
+    }
+
+    @Test(description = "Test the contracts of a batch generated into the same output path are rejected")
+    public void testBatchContractsWithSameOutputPath() throws IOException {
+        Path batchDir = Files.createDirectories(this.tmpDir.resolve("batch_clash"));
+        Files.copy(resourceDir.resolve("petstore.yaml"), batchDir.resolve("petstore.yaml"));
+        Files.writeString(batchDir.resolve("petstore.json"), "{}");
+        try {
+            BatchGenerator.readContracts(batchDir, this.tmpDir, null,
+                    new Filter(new ArrayList<>(), new ArrayList<>()), false, false, false);
+            Assert.fail("Contracts with the same output path are not rejected");
+        } catch (BallerinaOpenApiException e) {
+            Assert.assertTrue(e.getMessage().contains(batchDir.resolve("petstore.json").toString()), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains(batchDir.resolve("petstore.yaml").toString()), e.getMessage());
+        } finally {
+            FileUtils.deleteDirectory(batchDir.toFile());
+        }
+    }
+
     @Test(description = "getRelative path")
     public void getRelativePath() {
         OpenApiCmd cmd = new OpenApiCmd();
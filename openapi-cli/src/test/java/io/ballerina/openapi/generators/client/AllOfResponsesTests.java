@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
@@ -27,7 +28,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -43,7 +43,7 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_allof_reference.yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true), "CompoundTestsProductsResponse|error");
     }
@@ -52,7 +52,7 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_all_of_response.yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/users/{userId}/meetings")
                         .getPost(), true), "CompoundCreateMeetingResponse|error");
     }
@@ -62,7 +62,7 @@ public class AllOfResponsesTests {
                 "response_without_properties_with_additional.yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -75,7 +75,7 @@ public class AllOfResponsesTests {
                 ".yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -88,7 +88,7 @@ public class AllOfResponsesTests {
                 "/response_without_properties_without_additional.yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -101,7 +101,7 @@ public class AllOfResponsesTests {
                 "response_with_properties_without_additional.yaml"));
         BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(response);
         FunctionReturnType functionReturnType = new FunctionReturnType(response, ballerinaSchemaGenerator,
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -63,6 +63,29 @@ public class BallerinaDiagnosticTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Test client source code generation with the query parameters and headers serialized " +
+            "statically with diagnostic issue", dataProvider = "fileProviderForStaticSerializationDiagnosticCheck")
+    public void checkDiagnosticIssuesWithStaticSerialization(String yamlFile) throws IOException,
+            BallerinaOpenApiException, FormatterException, URISyntaxException {
+        CodeGenerator codeGenerator = new CodeGenerator();
+        Path definitionPath = RESDIR.resolve(yamlFile);
+        OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI, filter, false);
+        ballerinaClientGenerator.setStaticSerialization(true);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @DataProvider(name = "fileProviderForStaticSerializationDiagnosticCheck")
+    public Object[][] fileProviderForStaticSerializationDiagnosticCheck() {
+        return new Object[][] {
+                {"header_parameter.yaml"},
+                {"header_parameter_with_ref.yaml"},
+                {"head_operation.yaml"},
+                {"query_parameter_styles.yaml"}
+        };
+    }
 
     @DataProvider(name = "singleFileProviderForDiagnosticCheck")
     public Object[][] singleFileProviderForDiagnosticCheck() {
@@ -71,6 +94,7 @@ public class BallerinaDiagnosticTests {
                 {"petstore_get.yaml"},
                 {"openapi_display_annotation.yaml"},
                 {"header_parameter.yaml"},
+                {"header_parameter_with_ref.yaml"},
                 {"petstore_post.yaml"},
                 {"petstore_with_oneOf_response.yaml"},
                 {"response_nested_array.yaml"},
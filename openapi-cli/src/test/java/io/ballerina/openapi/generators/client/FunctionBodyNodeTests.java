@@ -19,11 +19,17 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.DataProvider;
@@ -39,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
 /**
@@ -62,7 +69,7 @@ public class FunctionBodyNodeTests {
                 display.getPaths().get(path).readOperationsMap().entrySet();
         Iterator<Map.Entry<PathItem.HttpMethod, Operation>> iterator = operation.iterator();
         FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
-                new ArrayList<>(), display, new BallerinaSchemaGenerator(display),
+                new TypeDefinitionRegistry(), display, new BallerinaSchemaGenerator(display),
                 new BallerinaAuthConfigGenerator(false, false), new BallerinaUtilGenerator());
         FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode(path, iterator.next());
         content = content.trim().replaceAll("\n", "").replaceAll("\\s+", "");
@@ -106,6 +113,110 @@ public class FunctionBodyNodeTests {
                         "return response;}"},
                 {"swagger/response_type_order.yaml", "/pet/{petId}", "{string path = string `/pet/${petId}`;" +
                         "Pet response = check self.clientEp->get(path);" +
+                        "return response;}"},
+                {"swagger/return_type/stream_response.yaml", "/pets", "{string path = string `/pets`;" +
+                        "http:Response httpResponse = check self.clientEp->get(path);" +
+                        "if httpResponse.statusCode < 200 || httpResponse.statusCode > 299 {" +
+                        "var errorPayload = check httpResponse.getByteStream();" +
+                        "check errorPayload.close();" +
+                        "return error(\"Request failed with the status code \" + " +
+                        "httpResponse.statusCode.toString());}" +
+                        "stream<json, error?> items = new stream<json, error?>(new JsonArrayStream(" +
+                        "check httpResponse.getByteStream()));" +
+                        "stream<Pet, error?> response = stream from json item in items " +
+                        "select check item.cloneWithType(Pet);" +
+                        "return response;}"},
+                {"swagger/return_type/stream_response.yaml", "/pets/search", "{string path = string `/pets/search`;" +
+                        "http:Request request = new;" +
+                        "json jsonBody = check payload.cloneWithType(json);" +
+                        "request.setPayload(jsonBody);" +
+                        "http:Response httpResponse = check self.clientEp->post(path, request);" +
+                        "if httpResponse.statusCode < 200 || httpResponse.statusCode > 299 {" +
+                        "var errorPayload = check httpResponse.getByteStream();" +
+                        "check errorPayload.close();" +
+                        "return error(\"Request failed with the status code \" + " +
+                        "httpResponse.statusCode.toString());}" +
+                        "stream<json, error?> items = new stream<json, error?>(new JsonArrayStream(" +
+                        "check httpResponse.getByteStream()));" +
+                        "stream<Pet, error?> response = stream from json item in items " +
+                        "select check item.cloneWithType(Pet);" +
+                        "return response;}"}
+        };
+    }
+
+    @Test(description = "Tests that the client of the streamed responses compiles with the JSON array stream of the " +
+            "util file")
+    public void generateJsonArrayStreamUtil() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RESDIR.resolve("swagger/return_type/stream_response.yaml");
+        OpenAPI openAPI = new CodeGenerator().normalizeOpenAPI(definitionPath, true);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(list1, list2), false);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toString();
+        Assert.assertTrue(utilContent.contains("class JsonArrayStream"));
+        Assert.assertFalse(utilContent.contains("import ballerina/url"));
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @Test(description = "Tests functionBodyNodes with the query parameters and headers serialized statically",
+            dataProvider = "dataProviderForStaticSerialization")
+    public void getStaticSerializationFunctionBodyNodes(String yamlFile, String path, String content)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RESDIR.resolve(yamlFile));
+        Map.Entry<PathItem.HttpMethod, Operation> operation =
+                openAPI.getPaths().get(path).readOperationsMap().entrySet().iterator().next();
+        BallerinaUtilGenerator ballerinaUtilGenerator = new BallerinaUtilGenerator();
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
+                new TypeDefinitionRegistry(), openAPI, new BallerinaSchemaGenerator(openAPI),
+                new BallerinaAuthConfigGenerator(false, false), ballerinaUtilGenerator);
+        functionBodyGenerator.setStaticSerialization(true);
+        FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
+        Assert.assertEquals(bodyNode.toString().replaceAll("\\s+", ""), content.replaceAll("\\s+", ""));
+        Assert.assertFalse(ballerinaUtilGenerator.generateUtilSyntaxTree().toString().contains("getMapForHeaders"));
+    }
+
+    @DataProvider(name = "dataProviderForStaticSerialization")
+    public Object[][] dataProviderForStaticSerialization() {
+        return new Object[][]{
+                {"diagnostic_files/header_parameter.yaml", "/pets", "{string path = string `/pets`;" +
+                        "map<string|string[]> accHeaders = {\"X-Request-ID\": xRequestId, " +
+                        "\"X-Request-Client\": xRequestClient};" +
+                        "http:Response response = check self.clientEp->get(path, accHeaders);" +
+                        "return response;}"},
+                {"diagnostic_files/header_parameter_with_ref.yaml", "/pets", "{string path = string `/pets`;" +
+                        "map<string|string[]> accHeaders = {\"X-Request-ID\": xRequestId, " +
+                        "\"X-Request-Client\": xRequestClient, \"X-Request-Trace\": xRequestTrace};" +
+                        "if xRequestOrigin is string {accHeaders[\"X-Request-Origin\"] = xRequestOrigin;}" +
+                        "http:Response response = check self.clientEp->get(path, accHeaders);" +
+                        "return response;}"},
+                {"diagnostic_files/head_operation.yaml", "/{filesystem}", "{string path = string `/${filesystem}`;" +
+                        "string queryString = \"\";" +
+                        "queryString = queryString + \"&resource=\" + getEncodedUri('resource);" +
+                        "if timeout !is () {queryString = queryString + \"&timeout=\" + timeout.toString();}" +
+                        "if queryString.length() > 0 {path = path + \"?\" + queryString.substring(1);}" +
+                        "map<string|string[]> accHeaders = {};" +
+                        "if xMsClientRequestId is string {" +
+                        "accHeaders[\"x-ms-client-request-id\"] = xMsClientRequestId;}" +
+                        "if xMsDate is string {accHeaders[\"x-ms-date\"] = xMsDate;}" +
+                        "if xMsVersion is string {accHeaders[\"x-ms-version\"] = xMsVersion;}" +
+                        "http:Response response = check self.clientEp->head(path, accHeaders);" +
+                        "return response;}"},
+                {"diagnostic_files/query_parameter_styles.yaml", "/pets", "{string path = string `/pets`;" +
+                        "string queryString = \"\";" +
+                        "queryString = queryString + \"&limit=\" + 'limit.toString();" +
+                        "if tags !is () {foreach var queryItem in tags {" +
+                        "queryString = queryString + \"&tags=\" + getEncodedUri(queryItem);}}" +
+                        "if ids !is () {foreach int queryIndex in 0 ..< ids.length() {" +
+                        "queryString = queryString + (queryIndex == 0 ? \"&ids=\" : \"|\") + " +
+                        "ids[queryIndex].toString();}}" +
+                        "if filter !is () {" +
+                        "queryString = queryString + \"&\" + getDeepObjectStyleRequest(\"filter\", filter);}" +
+                        "if filters !is () {if filters.length() > 0 {queryString = queryString + \"&\" + " +
+                        "getSerializedRecordArray(\"filters\", filters, FORM, false);}}" +
+                        "queryString = queryString + \"&offset=\" + getEncodedUri(offset.toString());" +
+                        "if queryString.length() > 0 {path = path + \"?\" + queryString.substring(1);}" +
+                        "http:Response response = check self.clientEp->get(path);" +
                         "return response;}"}
         };
     }
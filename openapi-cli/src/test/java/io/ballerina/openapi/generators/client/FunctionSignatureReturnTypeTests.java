@@ -19,6 +19,7 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.schema.BallerinaSchemaGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
@@ -27,7 +28,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -70,12 +70,58 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_properties_with_additional.yaml"));
         FunctionReturnType functionReturnType = new FunctionReturnType(array, new BallerinaSchemaGenerator(array),
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
     }
 
+    @Test(description = "Tests that a response type is defined once when it is generated again")
+    public void getReturnTypeRegistersTypeOnce() throws IOException, BallerinaOpenApiException {
+        OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
+                "response_with_properties_with_additional.yaml"));
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        FunctionReturnType functionReturnType = new FunctionReturnType(array, new BallerinaSchemaGenerator(array),
+                typeDefinitionRegistry);
+        functionReturnType.getReturnType(array.getPaths().get("/products").getGet(), true);
+        functionReturnType.getReturnType(array.getPaths().get("/products").getGet(), false);
+        Assert.assertEquals(typeDefinitionRegistry.size(), 1);
+        Assert.assertTrue(typeDefinitionRegistry.contains("TestsProductsResponse"));
+    }
+
+    @Test(description = "Tests the stream return type of the operations with the x-ballerina-stream extension")
+    public void getStreamReturnType() throws IOException, BallerinaOpenApiException {
+        FunctionReturnType functionReturnType = new FunctionReturnType();
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type/stream_response.yaml"));
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets").getGet(), true),
+                "stream<Pet, error?>|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets/names").getGet(), true),
+                "stream<string, error?>|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets/search").getPost(),
+                true), "stream<Pet, error?>|error");
+        // Arrays of arrays and the operations without the extension keep the array return type
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets/matrix").getGet(), true),
+                "int[][]|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets/list").getGet(), true),
+                "Pet[]|error");
+    }
+
+    @Test(description = "Tests that a schema clashing with the inline type of a response is not dropped",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "The type 'ListPetsResponse' generated for the schema " +
+                    "'ListPetsResponse' clashes with another type of the same name.*")
+    public void getReturnTypeWithClashingSchema() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_response_name_clash.yaml"));
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPI);
+        FunctionReturnType functionReturnType = new FunctionReturnType(openAPI, ballerinaSchemaGenerator,
+                typeDefinitionRegistry);
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets").getGet(), true),
+                "ListPetsResponse|error");
+        ballerinaSchemaGenerator.setTypeDefinitionRegistry(typeDefinitionRegistry);
+        ballerinaSchemaGenerator.generateSyntaxTree();
+    }
+
     @Test(description = "Tests for the object response without property and without additional properties")
     public void getReturnTypeForObjectSchemaWithOutAdditional() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
@@ -92,7 +138,7 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_without_additional" +
                 ".yaml"));
         FunctionReturnType functionReturnType = new FunctionReturnType(array, new BallerinaSchemaGenerator(array),
-                new ArrayList<>());
+                new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
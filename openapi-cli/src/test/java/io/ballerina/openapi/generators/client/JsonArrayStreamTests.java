@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.openapi.generators.common.TestUtils.writeFile;
+
+/**
+ * Tests the `JsonArrayStream` class of the util file, which reads the items of the streamed JSON array responses, by
+ * running the Ballerina program in the `json_array_stream` package with the generated util file.
+ */
+public class JsonArrayStreamTests {
+    private static final Path RESDIR =
+            Paths.get("src/test/resources/generators/client/json_array_stream").toAbsolutePath();
+    private static final Path utilPath = RESDIR.resolve("utils.bal");
+
+    @Test(description = "Tests reading JSON arrays in chunks with the JSON array stream of the util file")
+    public void readJsonArrays() throws IOException, FormatterException, InterruptedException {
+        BallerinaUtilGenerator ballerinaUtilGenerator = new BallerinaUtilGenerator();
+        ballerinaUtilGenerator.setJsonArrayStreamFound(true);
+        writeFile(utilPath, Formatter.format(ballerinaUtilGenerator.generateUtilSyntaxTree()).toString());
+
+        PackageCompilation compilation = BuildProject.load(RESDIR).currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), diagnosticResult.errors().toString());
+        Path executablePath = Files.createTempDirectory("json-array-stream").resolve("json_array_stream.jar");
+        JBallerinaBackend.from(compilation, JvmTarget.JAVA_11).emit(JBallerinaBackend.OutputType.EXEC,
+                executablePath);
+
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", executablePath.toString()).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assert.assertEquals(process.waitFor(), 0, output);
+    }
+
+    @AfterTest
+    private void deleteGeneratedFiles() {
+        try {
+            Files.deleteIfExists(utilPath);
+        } catch (IOException ignored) {
+        }
+    }
+}
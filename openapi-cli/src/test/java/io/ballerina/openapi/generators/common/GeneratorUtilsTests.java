@@ -91,4 +91,16 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Normalizing the OpenAPI view must not modify the source model")
+    public static void testOpenAPIViewIsolation() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(
+                Paths.get("src/test/resources/noOperationId.yaml").toAbsolutePath());
+        OpenAPI openAPIView = GeneratorUtils.getOpenAPIView(openAPI);
+        GeneratorUtils.setOperationId(openAPIView.getPaths());
+        Assert.assertNotNull(openAPIView.getPaths().get("/user").getGet().getOperationId());
+        Assert.assertNull(openAPI.getPaths().get("/user").getGet().getOperationId());
+        Assert.assertSame(openAPIView.getPaths().get("/user").getGet().getResponses(),
+                openAPI.getPaths().get("/user").getGet().getResponses());
+    }
 }
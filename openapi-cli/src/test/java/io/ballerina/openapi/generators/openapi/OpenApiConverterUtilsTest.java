@@ -18,16 +18,23 @@
 
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.openapi.converter.service.OASResult;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 
 /**
  * Ballerina conversion to OpenApi will test in this class.
@@ -166,6 +173,62 @@ public class OpenApiConverterUtilsTest {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "compiler_warning.yaml");
     }
 
+    @Test(description = "Generate OpenAPI spec for multiple services in parallel")
+    public void testParallelServiceGeneration() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("complex_base_path.bal");
+        Path parallelOutDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+        try {
+            new OpenApiConverter().generateOAS3DefinitionsAllService(ballerinaFilePath, this.tempDir, null,
+                    false);
+            OpenApiConverter openApiConverter = new OpenApiConverter();
+            openApiConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, parallelOutDir, null,
+                    false, true);
+
+            Assert.assertTrue(openApiConverter.getErrors().isEmpty());
+            for (String fileName : new String[]{"hello_foo_bar_openapi.yaml", "hello02_bar_baz_openapi.yaml"}) {
+                Assert.assertEquals(Files.readString(parallelOutDir.resolve(fileName)),
+                        Files.readString(this.tempDir.resolve(fileName)));
+            }
+        } finally {
+            TestUtils.deleteDirectory(parallelOutDir);
+        }
+    }
+
+    @Test(description = "Convert YAML and JSON contracts to the same minified JSON")
+    public void testMinifyOpenAPIContract() throws IOException {
+        String yamlContract = "openapi: 3.0.1\n" +
+                "info:\n" +
+                "  title: Hello\n" +
+                "  version: 1.0.0\n" +
+                "paths: {}\n";
+        String jsonContract = "{\n  \"openapi\" : \"3.0.1\",\n  \"info\" : {\n    \"title\" : \"Hello\",\n" +
+                "    \"version\" : \"1.0.0\"\n  },\n  \"paths\" : { }\n}";
+        String expected = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Hello\",\"version\":\"1.0.0\"}," +
+                "\"paths\":{}}";
+        Assert.assertEquals(ServiceToOpenAPIConverterUtils.minifyOpenAPIContract(yamlContract, false), expected);
+        Assert.assertEquals(ServiceToOpenAPIConverterUtils.minifyOpenAPIContract(jsonContract, true), expected);
+    }
+
+    @Test(description = "Serialized forms of the OASResult are reused and match the streamed forms")
+    public void testOASResultSerialization() throws IOException {
+        OASResult result = new OASResult(new OpenAPI().info(new Info().title("Hello").version("1.0.0")),
+                new ArrayList<>());
+        ByteArrayOutputStream streamedJson = new ByteArrayOutputStream();
+        result.writeJson(streamedJson);
+        String json = result.getJson().orElseThrow();
+        Assert.assertEquals(streamedJson.toString(StandardCharsets.UTF_8), json);
+        Assert.assertSame(result.getJson().orElseThrow(), json);
+
+        String yaml = result.getYaml().orElseThrow();
+        ByteArrayOutputStream writtenYaml = new ByteArrayOutputStream();
+        result.writeYaml(writtenYaml);
+        Assert.assertEquals(writtenYaml.toString(StandardCharsets.UTF_8), yaml);
+        Assert.assertSame(result.getYaml().orElseThrow(), yaml);
+
+        result.setOpenAPI(new OpenAPI().info(new Info().title("Bye").version("1.0.0")));
+        Assert.assertTrue(result.getYaml().orElseThrow().contains("title: Bye"));
+    }
+
     @AfterMethod
     public void cleanUp() {
         TestUtils.deleteDirectory(this.tempDir);
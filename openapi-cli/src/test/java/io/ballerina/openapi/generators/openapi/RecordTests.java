@@ -89,6 +89,18 @@ public class RecordTests {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/union.yaml");
     }
 
+    @Test(description = "When the record refers to itself through an array field")
+    public void testRecursiveRecord() throws OpenApiConverterException, IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("record/recursive_record.bal");
+        TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/recursive_record.yaml");
+    }
+
+    @Test(description = "When the records refer to each other, each of them maps to a single component")
+    public void testMutuallyRecursiveRecords() throws OpenApiConverterException, IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("record/mutually_recursive_record.bal");
+        TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/mutually_recursive_record.yaml");
+    }
+
     @AfterMethod
     public void cleanUp() {
         TestUtils.deleteDirectory(this.tempDir);
@@ -18,16 +18,21 @@
 
 package io.ballerina.openapi.generators.schema;
 
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.cmd.CodeGenerator;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.common.TestUtils;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tests related to the record data structure.
@@ -54,4 +59,24 @@ public class RecordDataTypeTests {
         syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
         TestUtils.compareGeneratedSyntaxTreewithExpectedSyntaxTree("schema/ballerina/schema07.bal", syntaxTree);
     }
+
+    @Test(description = "Generate the records of the component schemas in parallel")
+    public void generateRecordsInParallel() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/scenario07.yaml");
+        OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        List<String> expectedMembers = getModuleMembers(new BallerinaSchemaGenerator(openAPI).generateSyntaxTree());
+
+        BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPI);
+        ballerinaSchemaGenerator.setParallel(true);
+        syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        Assert.assertEquals(getModuleMembers(syntaxTree), expectedMembers);
+    }
+
+    private static List<String> getModuleMembers(SyntaxTree syntaxTree) {
+        List<String> members = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            members.add(member.toSourceCode().trim());
+        }
+        return members;
+    }
 }
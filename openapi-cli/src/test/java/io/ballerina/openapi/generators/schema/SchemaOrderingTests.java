@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the order of the generated types, which must not change between runs or with the order of the schemas.
+ */
+public class SchemaOrderingTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/").toAbsolutePath();
+    private final CodeGenerator codeGenerator = new CodeGenerator();
+
+    @Test(description = "Generate the types of a contract in the order of the schema names",
+            dataProvider = "largeContracts")
+    public void generateTypesInSortedOrder(String contract) throws IOException, BallerinaOpenApiException {
+        SyntaxTree syntaxTree = new BallerinaSchemaGenerator(getOpenAPI(contract)).generateSyntaxTree();
+        List<String> typeNames = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            typeNames.add(((TypeDefinitionNode) member).typeName().text());
+        }
+        List<String> sortedTypeNames = new ArrayList<>(typeNames);
+        Collections.sort(sortedTypeNames);
+        Assert.assertEquals(typeNames, sortedTypeNames);
+    }
+
+    @Test(description = "Generate byte identical types across runs, schema declaration orders and modes",
+            dataProvider = "largeContracts")
+    public void generateIdenticalTypes(String contract) throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        String expectedTypes = generateTypes(getOpenAPI(contract), false);
+        Assert.assertEquals(generateTypes(getOpenAPI(contract), false), expectedTypes);
+
+        OpenAPI reversedOpenAPI = getOpenAPI(contract);
+        List<Map.Entry<String, Schema>> schemas = new ArrayList<>(reversedOpenAPI.getComponents().getSchemas()
+                .entrySet());
+        Collections.reverse(schemas);
+        Map<String, Schema> reversedSchemas = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> schema : schemas) {
+            reversedSchemas.put(schema.getKey(), schema.getValue());
+        }
+        reversedOpenAPI.getComponents().setSchemas(reversedSchemas);
+        Assert.assertEquals(generateTypes(reversedOpenAPI, false), expectedTypes);
+
+        Assert.assertEquals(generateTypes(getOpenAPI(contract), true), expectedTypes);
+    }
+
+    @Test(description = "Fail the client generation when two schemas are generated as the same type",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "The schemas '.*' and '.*' are both generated as the type 'PetName'.*")
+    public void generateTypesWithClashingSchemaNames() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path outputPath = Files.createTempDirectory("openapi-schema-clash");
+        try {
+            codeGenerator.generateClient(RES_DIR.resolve("schema/swagger/schema_name_clash.yaml").toString(),
+                    "pets", outputPath.toString(), new Filter(new ArrayList<>(), new ArrayList<>()), false);
+        } finally {
+            FileUtils.deleteDirectory(outputPath.toFile());
+        }
+    }
+
+    @DataProvider(name = "largeContracts")
+    public Object[][] largeContracts() {
+        return new Object[][]{
+                {"client/file_provider/swagger/openapi_weather_api.yaml"},
+                {"client/file_provider/swagger/api2pdf.yaml"},
+                {"client/file_provider/swagger/uber_openapi.yaml"},
+                {"schema/swagger/world_bank.yaml"}
+        };
+    }
+
+    private OpenAPI getOpenAPI(String contract) throws IOException, BallerinaOpenApiException {
+        return codeGenerator.normalizeOpenAPI(RES_DIR.resolve(contract), true);
+    }
+
+    private static String generateTypes(OpenAPI openAPI, boolean isParallel) throws BallerinaOpenApiException,
+            FormatterException {
+        BallerinaSchemaGenerator ballerinaSchemaGenerator = new BallerinaSchemaGenerator(openAPI);
+        ballerinaSchemaGenerator.setParallel(isParallel);
+        return Formatter.format(ballerinaSchemaGenerator.generateSyntaxTree()).toString();
+    }
+}
@@ -0,0 +1,18 @@
+import ballerina/http;
+
+type Employee record {|
+    Department department;
+    string name;
+|};
+
+type Department record {|
+    Employee[] members;
+    string name;
+|};
+
+listener http:Listener ep0 = new(443, config = {host: "petstore.swagger.io"});
+
+service /payloadV on ep0 {
+    resource function post employee(@http:Payload Employee payload) {
+    }
+}
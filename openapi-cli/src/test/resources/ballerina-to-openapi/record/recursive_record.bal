@@ -0,0 +1,13 @@
+import ballerina/http;
+
+type Node record {|
+    Node[] children;
+    string name;
+|};
+
+listener http:Listener ep0 = new(443, config = {host: "petstore.swagger.io"});
+
+service /payloadV on ep0 {
+    resource function post node(@http:Payload Node payload) {
+    }
+}
@@ -1,20 +1,20 @@
 // Copyright (c) 2021 All Rights Reserved.
 
-public type Pets Pet[];
+public type Dog record {
+    *Pet;
+    boolean bark?;
+};
 
 public type Error record {
     int code;
     string message;
 };
 
-public type Dog record {
-    *Pet;
-    boolean bark?;
-};
-
 public type Pet record {
     int id;
     string name;
     string tag?;
     string 'type?;
 };
+
+public type Pets Pet[];
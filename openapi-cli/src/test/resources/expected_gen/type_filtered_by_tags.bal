@@ -1,5 +1,3 @@
-public type Pets Pet[];
-
 public type Dog record {
     *Pet;
     boolean bark?;
@@ -11,3 +9,5 @@ public type Pet record {
     string tag?;
     string 'type?;
 };
+
+public type Pets Pet[];
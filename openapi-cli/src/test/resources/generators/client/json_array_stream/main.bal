@@ -0,0 +1,109 @@
+// Reads JSON array payloads with the `JsonArrayStream` class of the generated `utils.bal`. Each payload is read in
+// chunks of several sizes, so that the tokens and the multi-byte characters are split across the chunks.
+
+final int[] & readonly chunkSizes = [1, 2, 3, 7, 4096];
+
+public function main() returns error? {
+    check assertItems("[]", "[]");
+    check assertItems(" \r\n[ \t]\n", "[]");
+    check assertItems(string `[1, "two", true, null]`, string `[1, "two", true, null]`);
+    check assertItems(string `["a \"quoted\" value", "ends with a backslash \\", "\\\"", "[not, an] {item}"]`,
+        string `["a \"quoted\" value", "ends with a backslash \\", "\\\"", "[not, an] {item}"]`);
+    check assertItems(string `[[1, 2], [], [[3, [4]]], {}, {"list": [1, {"a": [2, 3]}], "map": {"b": {"c": "]"}}}]`,
+        string `[[1, 2], [], [[3, [4]]], {}, {"list": [1, {"a": [2, 3]}], "map": {"b": {"c": "]"}}}]`);
+    check assertItems(string `["café", "日本語", "😀", {"ключ": "значение"}]`,
+        string `["café", "日本語", "😀", {"ключ": "значение"}]`);
+    check assertError(string `{"items": [1, 2]}`, "Payload is not a JSON array");
+    check assertError("", "Payload ended before the end of the JSON array");
+    check assertError("[1, 2", "Payload ended before the end of the JSON array");
+    check assertError(string `[{"a": "]"}`, "Payload ended before the end of the JSON array");
+    check assertError(string `[1, tru, 3]`, ());
+    check assertEarlyClose(string `[{"a": 1}, {"b": 2}, {"c": 3}]`);
+}
+
+function assertItems(string payload, string expected) returns error? {
+    json[] expectedItems = <json[]>check expected.fromJsonString();
+    foreach int chunkSize in chunkSizes {
+        ChunkStream chunkStream = new (payload, chunkSize);
+        json[] items = check readItems(new (new stream<byte[], error?>(chunkStream)));
+        if items != expectedItems {
+            return error(string `Read ${items.toJsonString()} from '${payload}' in chunks of ${chunkSize}`);
+        }
+        if !chunkStream.closed {
+            return error(string `Payload '${payload}' not closed at the end in chunks of ${chunkSize}`);
+        }
+    }
+}
+
+// Asserts reading the payload fails with the given message, or with any error when the message is nil.
+function assertError(string payload, string? message) returns error? {
+    foreach int chunkSize in chunkSizes {
+        ChunkStream chunkStream = new (payload, chunkSize);
+        json[]|error items = readItems(new (new stream<byte[], error?>(chunkStream)));
+        if items is json[] {
+            return error(string `Read ${items.toJsonString()} from '${payload}' in chunks of ${chunkSize}`);
+        } else if message is string && items.message() != message {
+            return error(string `Failed with '${items.message()}' for '${payload}' in chunks of ${chunkSize}`);
+        }
+        if !chunkStream.closed {
+            return error(string `Payload '${payload}' not closed on an error in chunks of ${chunkSize}`);
+        }
+    }
+}
+
+function assertEarlyClose(string payload) returns error? {
+    foreach int chunkSize in chunkSizes {
+        ChunkStream chunkStream = new (payload, chunkSize);
+        stream<json, error?> items = new (new JsonArrayStream(new stream<byte[], error?>(chunkStream)));
+        record {| json value; |}? item = check items.next();
+        if item is () {
+            return error(string `No item read from '${payload}' in chunks of ${chunkSize}`);
+        }
+        check items.close();
+        if !chunkStream.closed {
+            return error(string `Payload '${payload}' not closed by the item stream in chunks of ${chunkSize}`);
+        }
+    }
+}
+
+function readItems(JsonArrayStream itemStream) returns json[]|error {
+    json[] items = [];
+    while true {
+        record {| json value; |}? item = check itemStream.next();
+        if item is () {
+            break;
+        }
+        items.push(item.value);
+    }
+    return items;
+}
+
+// Byte stream of the payload in chunks of the given size, which records whether it is closed.
+class ChunkStream {
+    private final byte[][] chunks = [];
+    private int index = 0;
+    boolean closed = false;
+
+    isolated function init(string payload, int chunkSize) {
+        byte[] bytes = payload.toBytes();
+        int chunkStart = 0;
+        while chunkStart < bytes.length() {
+            int chunkEnd = chunkStart + chunkSize < bytes.length() ? chunkStart + chunkSize : bytes.length();
+            self.chunks.push(bytes.slice(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        if self.index == self.chunks.length() {
+            return;
+        }
+        byte[] chunk = self.chunks[self.index];
+        self.index += 1;
+        return {value: chunk};
+    }
+
+    public isolated function close() returns error? {
+        self.closed = true;
+    }
+}
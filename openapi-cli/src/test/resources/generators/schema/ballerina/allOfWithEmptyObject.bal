@@ -1,5 +1,3 @@
-public type Pets Pet[];
-
 public type Error record {
     int code;
     string message;
@@ -8,3 +6,5 @@ public type Error record {
 public type Pet record {
     string[] entries?;
 };
+
+public type Pets Pet[];
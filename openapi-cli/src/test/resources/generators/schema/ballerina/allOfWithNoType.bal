@@ -1,5 +1,3 @@
-public type Pets Pet[];
-
 public type Error record {
     int code;
     string message;
@@ -12,3 +10,5 @@ public type Pet record {
     string 'type?;
     string[] entries?;
 };
+
+public type Pets Pet[];
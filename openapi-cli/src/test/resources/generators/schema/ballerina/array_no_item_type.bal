@@ -4,6 +4,6 @@ public type Address record {
     string country?;
 };
 
-public type UserAddress anydata[];
-
 public type Pet string[];
+
+public type UserAddress anydata[];
@@ -1,10 +1,7 @@
-@deprecated
-public type Pets Pet[];
-
-@deprecated
-public type Owner record {
-    string Name?;
-    string Address?;
+public type Dog record {
+    *Pet;
+    boolean bark?;
+    *Owner;
 };
 
 public type Error record {
@@ -12,10 +9,10 @@ public type Error record {
     string message;
 };
 
-public type Dog record {
-    *Pet;
-    boolean bark?;
-    *Owner;
+@deprecated
+public type Owner record {
+    string Name?;
+    string Address?;
 };
 
 # Pet Object
@@ -29,3 +26,6 @@ public type Pet record {
     string tag?;
     string 'type?;
 };
+
+@deprecated
+public type Pets Pet[];
@@ -2,6 +2,14 @@ public type ProjectGidProjectStatusesBody record {
     ProjectStatusRequest data?;
 };
 
+# A generic Asana Resource, containing a globally unique identifier.
+public type AsanaResource record {
+    # Globally unique identifier of the resource, as a string.
+    string gid?;
+    # The base type of this resource.
+    string resource_type?;
+};
+
 public type ProjectStatusBase record {
     *ProjectStatusCompact;
     UserCompact author?;
@@ -14,6 +22,13 @@ public type ProjectStatusBase record {
     string color?;
 };
 
+# A project status is an update on the progress of a particular project, and is sent out to all project followers when created.
+public type ProjectStatusCompact record {
+    *AsanaResource;
+    # The title of the project status update.
+    string title?;
+};
+
 public type ProjectStatusRequest record {
     *ProjectStatusBase;
 };
@@ -24,18 +39,3 @@ public type UserCompact record {
     # Read-only except when same user as requester.
     string name?;
 };
-
-# A generic Asana Resource, containing a globally unique identifier.
-public type AsanaResource record {
-    # Globally unique identifier of the resource, as a string.
-    string gid?;
-    # The base type of this resource.
-    string resource_type?;
-};
-
-# A project status is an update on the progress of a particular project, and is sent out to all project followers when created.
-public type ProjectStatusCompact record {
-    *AsanaResource;
-    # The title of the project status update.
-    string title?;
-};
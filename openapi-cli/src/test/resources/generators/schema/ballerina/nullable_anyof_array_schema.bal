@@ -1,10 +1,3 @@
-public type CustomersCustomerBody record {
-    # The customer's address.
-    CustomerAddress|string? address?;
-    # An integer amount in %s that represents the customer's current balance, which affect the customer's future invoices. A negative amount represents a credit that decreases the amount due on an invoice; a positive amount increases the amount due on an invoice.
-    int balance?;
-};
-
 public type Customer record {
     # The customer's address.
     CustomerAddress[]|string? address?;
@@ -19,3 +12,10 @@ public type CustomerAddress record {
     string postal_code?;
     string state?;
 };
+
+public type CustomersCustomerBody record {
+    # The customer's address.
+    CustomerAddress|string? address?;
+    # An integer amount in %s that represents the customer's current balance, which affect the customer's future invoices. A negative amount represents a credit that decreases the amount due on an invoice; a positive amount increases the amount due on an invoice.
+    int balance?;
+};
@@ -1,11 +1,3 @@
-public type YouthLiteracyRate record {
-    record {} indicator?;
-    Country country?;
-    string date?;
-    int value?;
-    int 'decimal?;
-};
-
 public type Country record {
     string id?;
     string value?;
@@ -14,3 +6,11 @@ public type Country record {
 public type Error record {
     string name?;
 };
+
+public type YouthLiteracyRate record {
+    record {} indicator?;
+    Country country?;
+    string date?;
+    int value?;
+    int 'decimal?;
+};
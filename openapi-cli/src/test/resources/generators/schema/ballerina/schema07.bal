@@ -1,9 +1,4 @@
 
-public type Tag record {
-    int id?;
-    string tagType?;
-};
-
 public type Dog record {
     Pet[] pets?;
     boolean bark;
@@ -15,3 +10,8 @@ public type Pet record {
     string tag?;
     Tag 'type?;
 };
+
+public type Tag record {
+    int id?;
+    string tagType?;
+};
@@ -1,8 +1,8 @@
-public type Pets Pet[];
-
 public type Pet record {
     int id;
     string name;
     string tag?;
     string 'type?;
 };
+
+public type Pets Pet[];
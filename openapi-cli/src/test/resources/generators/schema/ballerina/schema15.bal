@@ -4,16 +4,16 @@ public type Activities record {
     Activity[] history?;
 };
 
+public type Activity record {
+    # Unique identifier for the activity
+    string uuid?;
+};
+
+public type  AnyOF User|Activity;
+
 public type User record {
     # First name of the Uber user.
     string first_name?;
     # Last name of the Uber user.
     string last_name?;
 };
-
-public type  AnyOF User|Activity;
-
-public type Activity record {
-    # Unique identifier for the activity
-    string uuid?;
-};
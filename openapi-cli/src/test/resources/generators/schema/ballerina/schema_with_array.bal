@@ -4,6 +4,6 @@ public type Address record {
     string country?;
 };
 
-public type UserAddress Address[];
-
 public type Pet string[];
+
+public type UserAddress Address[];
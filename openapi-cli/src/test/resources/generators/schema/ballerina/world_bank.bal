@@ -1,4 +1,4 @@
-public type PrimaryEducationExpenditure record {
+public type AccessToElectricity record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -6,15 +6,12 @@ public type PrimaryEducationExpenditure record {
     int 'decimal?;
 };
 
-public type YouthLiteracyRate record {
-    Indicator indicator?;
-    Country country?;
-    string date?;
-    int value?;
-    int 'decimal?;
+public type Country record {
+    string id?;
+    string value?;
 };
 
-public type AccessToElectricity record {
+public type CountryPolutation record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -22,6 +19,10 @@ public type AccessToElectricity record {
     int 'decimal?;
 };
 
+public type Error record {
+    string name?;
+};
+
 public type GrossDomesticProduct record {
     Indicator indicator?;
     Country country?;
@@ -30,16 +31,12 @@ public type GrossDomesticProduct record {
     int 'decimal?;
 };
 
-public type Country record {
+public type Indicator record {
     string id?;
     string value?;
 };
 
-public type Error record {
-    string name?;
-};
-
-public type CountryPolutation record {
+public type PrimaryEducationExpenditure record {
     Indicator indicator?;
     Country country?;
     string date?;
@@ -47,7 +44,10 @@ public type CountryPolutation record {
     int 'decimal?;
 };
 
-public type Indicator record {
-    string id?;
-    string value?;
+public type YouthLiteracyRate record {
+    Indicator indicator?;
+    Country country?;
+    string date?;
+    int value?;
+    int 'decimal?;
 };
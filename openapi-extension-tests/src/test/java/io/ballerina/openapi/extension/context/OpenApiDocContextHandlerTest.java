@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.extension.context;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.getContextHandler;
+
+/**
+ * This class includes tests for the reuse and the release of the shared open-api doc contexts.
+ */
+public class OpenApiDocContextHandlerTest {
+    private static final Path RESOURCE_DIRECTORY = Paths
+            .get("src", "test", "resources", "ballerina_sources").toAbsolutePath();
+    private static final Path DISTRIBUTION_PATH = Paths
+            .get("build", "target", "ballerina-distribution").toAbsolutePath();
+
+    @Test(description = "Test the context of a package is replaced when a newer snapshot of the package is compiled")
+    public void testContextReplacedForChangedPackage() {
+        Package currentPackage = loadPackage("sample_1");
+        currentPackage.getCompilation();
+        OpenApiDocContext context = retrieveContext(currentPackage);
+        Assert.assertTrue(context.isGeneratedFrom(currentPackage));
+        List<OpenApiDocContext.OpenApiDefinition> definitions = context.getOpenApiDetails();
+        Assert.assertFalse(definitions.isEmpty());
+
+        Document document = getDocument(currentPackage.getDefaultModule(), "service.bal");
+        Package modifiedPackage = document.modify()
+                .withContent(document.textDocument().toString() + System.lineSeparator() + "// modified")
+                .apply();
+        modifiedPackage.getCompilation();
+        OpenApiDocContext modifiedContext = retrieveContext(modifiedPackage);
+        Assert.assertNotSame(modifiedContext, context);
+        Assert.assertTrue(modifiedContext.isGeneratedFrom(modifiedPackage));
+        Assert.assertFalse(modifiedContext.isGeneratedFrom(currentPackage));
+        // the definitions of the older snapshot are not carried over to the new context
+        Assert.assertEquals(modifiedContext.getOpenApiDetails().size(), definitions.size());
+        getContextHandler().removeContext(modifiedPackage.packageId(), modifiedPackage.project().sourceRoot());
+    }
+
+    @Test(description = "Test the context of a package is removed when the packaging takes it")
+    public void testContextRemovedForPackaging() {
+        Package currentPackage = loadPackage("sample_2");
+        currentPackage.getCompilation();
+        OpenApiDocContextHandler contextHandler = getContextHandler();
+        OpenApiDocContext context = retrieveContext(currentPackage);
+        int contextCount = contextHandler.getContextCount();
+        long retainedSize = contextHandler.getRetainedDefinitionsSize();
+
+        // the packaging task takes the context by the package id and the source root of the project
+        Path srcRoot = currentPackage.project().sourceRoot();
+        Assert.assertSame(contextHandler.removeContext(currentPackage.packageId(), srcRoot).orElseThrow(), context);
+        Assert.assertTrue(contextHandler.retrieveContext(currentPackage.packageId(), srcRoot).isEmpty());
+        Assert.assertTrue(contextHandler.removeContext(currentPackage.packageId(), srcRoot).isEmpty());
+        Assert.assertEquals(contextHandler.getContextCount(), contextCount - 1);
+        Assert.assertEquals(contextHandler.getRetainedDefinitionsSize(), retainedSize - context.getDefinitionsSize());
+    }
+
+    private static OpenApiDocContext retrieveContext(Package currentPackage) {
+        return getContextHandler().retrieveContext(currentPackage.packageId(), currentPackage.project().sourceRoot())
+                .orElseThrow(() -> new AssertionError("No open-api doc context for " +
+                        currentPackage.packageName().value()));
+    }
+
+    private static Package loadPackage(String path) {
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        return BuildProject.load(ProjectEnvironmentBuilder.getBuilder(environment), RESOURCE_DIRECTORY.resolve(path))
+                .currentPackage();
+    }
+
+    private static Document getDocument(Module module, String name) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(name)) {
+                return document;
+            }
+        }
+        throw new IllegalArgumentException("No document named " + name);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.extension.doc;
+
+import io.ballerina.openapi.extension.Constants;
+import io.ballerina.openapi.extension.context.OpenApiDocContext;
+import io.ballerina.openapi.extension.context.OpenApiDocContextHandler;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This class includes tests for the resources embedded by the {@code ResourcePackagingService}.
+ */
+public class ResourcePackagingServiceTest {
+    private static final Path RESOURCE_DIRECTORY = Paths
+            .get("src", "test", "resources", "ballerina_sources").toAbsolutePath();
+    private static final Path DISTRIBUTION_PATH = Paths
+            .get("build", "target", "ballerina-distribution").toAbsolutePath();
+    private static final String MINIFIED_DOC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"pets\"}}";
+    private static final String UNMINIFIED_DOC = "openapi: 3.0.1\ninfo: [title: pets\n";
+
+    @Test(description = "Test the compressed copy and the ETag are created only for the minified docs")
+    public void testCreateEmbeddedResources() throws IOException, NoSuchAlgorithmException {
+        List<ResourcePackagingService.EmbeddedResource> resources = new ResourcePackagingService()
+                .createEmbeddedResources(createContext());
+        Assert.assertEquals(getFileNames(resources), List.of("openapi_1.json", "openapi_1.json" +
+                Constants.GZIP_EXTENSION, "openapi_1.json" + Constants.ETAG_EXTENSION, "openapi_2.json"));
+
+        Assert.assertEquals(new String(resources.get(0).getContent(), StandardCharsets.UTF_8), MINIFIED_DOC);
+        try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(resources.get(1).getContent()))) {
+            Assert.assertEquals(new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8), MINIFIED_DOC);
+        }
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(MINIFIED_DOC.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(new String(resources.get(2).getContent(), StandardCharsets.UTF_8),
+                "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"");
+        Assert.assertEquals(new String(resources.get(3).getContent(), StandardCharsets.UTF_8), UNMINIFIED_DOC);
+    }
+
+    @Test(description = "Test the resources are added to the jar along with its existing entries")
+    public void testUpdateJarFile() throws IOException {
+        ResourcePackagingService packagingService = new ResourcePackagingService();
+        List<ResourcePackagingService.EmbeddedResource> resources = packagingService
+                .createEmbeddedResources(createContext());
+        Path targetPath = Files.createTempDirectory("openapi-packaging");
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(targetPath.resolve("app.jar")))) {
+            jarStream.putNextEntry(new JarEntry("main.class"));
+            jarStream.write(new byte[] {1, 2, 3});
+            jarStream.closeEntry();
+        }
+
+        packagingService.updateJarFile(targetPath, "app.jar", resources);
+        try (JarFile jarFile = new JarFile(targetPath.resolve("app.jar").toFile())) {
+            Assert.assertNotNull(jarFile.getJarEntry("main.class"));
+            String resourcesDirectory = Constants.RESOURCES_DIR_NAME + "/" + Constants.PACKAGE_ORG + "/" +
+                    Constants.PACKAGE_NAME + "/";
+            for (ResourcePackagingService.EmbeddedResource resource : resources) {
+                JarEntry entry = jarFile.getJarEntry(resourcesDirectory + resource.getFileName());
+                Assert.assertNotNull(entry, "No entry for " + resource.getFileName());
+                try (InputStream entryStream = jarFile.getInputStream(entry)) {
+                    Assert.assertEquals(entryStream.readAllBytes(), resource.getContent());
+                }
+            }
+            Assert.assertNull(jarFile.getJarEntry(resourcesDirectory + "openapi_2.json" + Constants.GZIP_EXTENSION));
+        }
+    }
+
+    private static OpenApiDocContext createContext() throws IOException {
+        Package currentPackage = BuildProject.load(getEnvironmentBuilder(), RESOURCE_DIRECTORY.resolve("sample_1"))
+                .currentPackage();
+        Path srcRoot = Files.createTempDirectory("openapi-packaging-src");
+        OpenApiDocContextHandler contextHandler = OpenApiDocContextHandler.getContextHandler();
+        contextHandler.updateContext(currentPackage, srcRoot,
+                new OpenApiDocContext.OpenApiDefinition("openapi_1.json", MINIFIED_DOC, true));
+        contextHandler.updateContext(currentPackage, srcRoot,
+                new OpenApiDocContext.OpenApiDefinition("openapi_2.json", UNMINIFIED_DOC, true, false));
+        contextHandler.updateContext(currentPackage, srcRoot,
+                new OpenApiDocContext.OpenApiDefinition("openapi_3.json", MINIFIED_DOC, false));
+        return contextHandler.removeContext(currentPackage.packageId(), srcRoot).orElseThrow();
+    }
+
+    private static List<String> getFileNames(List<ResourcePackagingService.EmbeddedResource> resources) {
+        return resources.stream()
+                .map(ResourcePackagingService.EmbeddedResource::getFileName)
+                .collect(Collectors.toList());
+    }
+
+    private static ProjectEnvironmentBuilder getEnvironmentBuilder() {
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        return ProjectEnvironmentBuilder.getBuilder(environment);
+    }
+}
@@ -30,6 +30,11 @@ public interface Constants {
     String RESOURCES_DIR_NAME = "resources";
     String RESOURCE_DIR_NAME = "resource";
 
+    // embedded open-api doc related constants
+    String JSON_EXTENSION = ".json";
+    String GZIP_EXTENSION = ".gz";
+    String ETAG_EXTENSION = ".etag";
+
     // open-api module related constants
     String SERVICE_INFO_ANNOTATION = "openapi:ServiceInfo";
     String CONTRACT = "contract";
@@ -36,6 +36,8 @@ public enum OpenApiDiagnosticCode {
     OPENAPI_106("OPENAPI_106", "error occurred while cleaning-up generated resources : {0}",
             DiagnosticSeverity.WARNING),
     OPENAPI_107("OPENAPI_107", "generated open-api definition is empty",
+            DiagnosticSeverity.WARNING),
+    OPENAPI_108("OPENAPI_108", "could not minify the open-api contract, hence it is embedded as it is : {0}",
             DiagnosticSeverity.WARNING);
 
     private final String code;
@@ -35,6 +35,7 @@ import io.ballerina.tools.text.TextRange;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.getContextHandler;
@@ -52,6 +53,11 @@ public class OpenApiDocPackagingTask implements CompilerLifecycleTask<CompilerLi
 
     @Override
     public void perform(CompilerLifecycleEventContext compilationContext) {
+        // the shared open-api doc context is not needed after this task, hence release it before anything else
+        Package currentPackage = compilationContext.currentPackage();
+        Optional<OpenApiDocContext> openApiDocContextOpt = getContextHandler()
+                .removeContext(currentPackage.packageId(), currentPackage.project().sourceRoot());
+
         // if the compilation contains errors or compilation contains warnings related to open-api doc generation
         // do not proceed
         if (isErroneousCompilation(compilationContext)) {
@@ -59,9 +65,6 @@ public class OpenApiDocPackagingTask implements CompilerLifecycleTask<CompilerLi
         }
 
         // if the shared open-api doc context is not found, do not proceed
-        Package currentPackage = compilationContext.currentPackage();
-        Optional<OpenApiDocContext> openApiDocContextOpt = getContextHandler()
-                .retrieveContext(currentPackage.packageId(), currentPackage.project().sourceRoot());
         if (openApiDocContextOpt.isEmpty()) {
             return;
         }
@@ -74,11 +77,13 @@ public class OpenApiDocPackagingTask implements CompilerLifecycleTask<CompilerLi
     }
 
     private boolean isErroneousCompilation(CompilerLifecycleEventContext compilationContext) {
+        // a contract which could not be minified is still embedded, hence its warning does not stop the packaging
         return compilationContext.compilation().diagnosticResult()
                 .diagnostics().stream()
                 .anyMatch(d ->
                         DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity())
-                                || d.diagnosticInfo().code().startsWith("OPENAPI")
+                                || (d.diagnosticInfo().code().startsWith("OPENAPI")
+                                && !OpenApiDiagnosticCode.OPENAPI_108.getCode().equals(d.diagnosticInfo().code()))
                 );
     }
 
@@ -96,8 +101,12 @@ public class OpenApiDocPackagingTask implements CompilerLifecycleTask<CompilerLi
 
                 String executableJarFileName = executableJarAbsPath.toFile().getName();
                 try {
+                    // the embedded resources are the same for both jars, hence create them once
+                    List<ResourcePackagingService.EmbeddedResource> resources =
+                            this.packagingService.createEmbeddedResources(context);
+
                     // update the executable jar
-                    this.packagingService.updateJarFile(targetBinPath, executableJarFileName, context);
+                    this.packagingService.updateJarFile(targetBinPath, executableJarFileName, resources);
 
                     // update the thin-jar | this is required for dockerized applications
                     Optional<JarLibrary> thinJarOpt = getThinJar(compilationContext, executablePath);
@@ -106,7 +115,7 @@ public class OpenApiDocPackagingTask implements CompilerLifecycleTask<CompilerLi
                         Path thinJarLocation = thinJar.path().toAbsolutePath();
                         Path parenDirectory = thinJarLocation.getParent();
                         String thinJarName = thinJarLocation.toFile().getName();
-                        this.packagingService.updateJarFile(parenDirectory, thinJarName, context);
+                        this.packagingService.updateJarFile(parenDirectory, thinJarName, resources);
                     }
                 } catch (IOException e) {
                     OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_104;
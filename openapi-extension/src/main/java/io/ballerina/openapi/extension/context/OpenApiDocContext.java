@@ -16,8 +16,12 @@
 
 package io.ballerina.openapi.extension.context;
 
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageId;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,10 +35,18 @@ public class OpenApiDocContext {
     private final PackageId packageId;
     private final Path sourcePath;
     private final List<OpenApiDefinition> definitions = new ArrayList<>();
+    // package snapshot that the definitions are generated from, weakly held so that the context does not retain it
+    private final Reference<Package> generatedFrom;
+    private long definitionsSize;
 
     public OpenApiDocContext(PackageId packageId, Path sourcePath) {
+        this(packageId, sourcePath, null);
+    }
+
+    public OpenApiDocContext(PackageId packageId, Path sourcePath, Package generatedFrom) {
         this.packageId = packageId;
         this.sourcePath = sourcePath;
+        this.generatedFrom = new WeakReference<>(generatedFrom);
     }
 
     public PackageId getPackageId() {
@@ -45,12 +57,33 @@ public class OpenApiDocContext {
         return sourcePath;
     }
 
-    public List<OpenApiDefinition> getOpenApiDetails() {
-        return Collections.unmodifiableList(definitions);
+    public synchronized List<OpenApiDefinition> getOpenApiDetails() {
+        return Collections.unmodifiableList(new ArrayList<>(definitions));
+    }
+
+    /**
+     * Total size of the definitions in this context in bytes.
+     *
+     * @return size of the definitions
+     */
+    public synchronized long getDefinitionsSize() {
+        return definitionsSize;
+    }
+
+    /**
+     * Check whether the definitions of this context are generated from the given package snapshot. A newer
+     * compilation of the package has a different snapshot.
+     *
+     * @param currentPackage package snapshot of the current compilation
+     * @return true if the context belongs to the given package snapshot
+     */
+    public boolean isGeneratedFrom(Package currentPackage) {
+        return this.generatedFrom.get() == currentPackage;
     }
 
-    void updateOpenApiDetails(OpenApiDefinition definition) {
+    synchronized void updateOpenApiDetails(OpenApiDefinition definition) {
         this.definitions.add(definition);
+        this.definitionsSize += definition.getSize();
     }
 
     /**
@@ -60,11 +93,19 @@ public class OpenApiDocContext {
         private final String fileName;
         private final String definition;
         private final boolean embed;
+        private final boolean minified;
+        private final long size;
 
         public OpenApiDefinition(String fileName, String definition, boolean embed) {
+            this(fileName, definition, embed, true);
+        }
+
+        public OpenApiDefinition(String fileName, String definition, boolean embed, boolean minified) {
             this.fileName = fileName;
             this.definition = definition;
             this.embed = embed;
+            this.minified = minified;
+            this.size = definition.getBytes(StandardCharsets.UTF_8).length;
         }
 
         public String getFileName() {
@@ -78,5 +119,19 @@ public class OpenApiDocContext {
         public boolean isAutoEmbedToService() {
             return embed;
         }
+
+        /**
+         * Check whether the definition is minified JSON. A contract which could not be minified is kept as it is,
+         * hence it is not served as compressed JSON.
+         *
+         * @return true if the definition is minified JSON
+         */
+        public boolean isMinified() {
+            return minified;
+        }
+
+        public long getSize() {
+            return size;
+        }
     }
 }
@@ -16,24 +16,28 @@
 
 package io.ballerina.openapi.extension.context;
 
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageId;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code OpenApiDocContextHandler} will manage the shared context among compiler plugin tasks.
+ *
+ * A context is kept per package and source root. It is released when the packaging task of the package takes it, or
+ * replaced when a newer compilation of the package starts adding definitions.
  */
 public final class OpenApiDocContextHandler {
     private static OpenApiDocContextHandler INSTANCE;
 
-    private final List<OpenApiDocContext> contexts;
+    private final Map<ContextKey, OpenApiDocContext> contexts;
 
     private OpenApiDocContextHandler() {
-        this.contexts = new ArrayList<>();
+        this.contexts = new ConcurrentHashMap<>();
     }
 
     public static OpenApiDocContextHandler getContextHandler() {
@@ -46,39 +50,86 @@ public final class OpenApiDocContextHandler {
     }
 
     public void addContext(OpenApiDocContext context) {
-        synchronized (this.contexts) {
-            this.contexts.add(context);
-        }
+        this.contexts.put(new ContextKey(context.getPackageId(), context.getSourcePath()), context);
     }
 
     /**
-     * Update the shared context for open-api doc generation.
-     * @param packageId of the current project
+     * Update the shared context for open-api doc generation. If the context of the package was created by an older
+     * compilation, it is replaced with a new context.
+     * @param currentPackage package of the current compilation
      * @param srcRoot of the current project
      * @param definition to be added to the context
      */
-    public void updateContext(PackageId packageId, Path srcRoot, OpenApiDocContext.OpenApiDefinition definition) {
-        Optional<OpenApiDocContext> contextOpt = retrieveContext(packageId, srcRoot);
-        if (contextOpt.isPresent()) {
-            OpenApiDocContext context = contextOpt.get();
-            synchronized (context) {
-                context.updateOpenApiDetails(definition);
+    public void updateContext(Package currentPackage, Path srcRoot, OpenApiDocContext.OpenApiDefinition definition) {
+        PackageId packageId = currentPackage.packageId();
+        this.contexts.compute(new ContextKey(packageId, srcRoot), (key, context) -> {
+            if (Objects.isNull(context) || !context.isGeneratedFrom(currentPackage)) {
+                context = new OpenApiDocContext(packageId, srcRoot, currentPackage);
             }
-            return;
-        }
-        OpenApiDocContext context = new OpenApiDocContext(packageId, srcRoot);
-        context.updateOpenApiDetails(definition);
-        addContext(context);
+            context.updateOpenApiDetails(definition);
+            return context;
+        });
     }
 
     public Optional<OpenApiDocContext> retrieveContext(PackageId packageId, Path srcRoot) {
-        return this.contexts.stream()
-                .filter(ctx -> equals(ctx, packageId, srcRoot))
-                .findFirst();
+        return Optional.ofNullable(this.contexts.get(new ContextKey(packageId, srcRoot)));
+    }
+
+    /**
+     * Remove the shared context of the given package, once it is no longer needed.
+     * @param packageId of the current project
+     * @param srcRoot of the current project
+     * @return removed context, if there was one
+     */
+    public Optional<OpenApiDocContext> removeContext(PackageId packageId, Path srcRoot) {
+        return Optional.ofNullable(this.contexts.remove(new ContextKey(packageId, srcRoot)));
+    }
+
+    /**
+     * Number of contexts retained by the handler.
+     * @return number of contexts
+     */
+    public int getContextCount() {
+        return this.contexts.size();
     }
 
-    private boolean equals(OpenApiDocContext context, PackageId packageId, Path srcRoot) {
-        int hashCodeForCurrentContext = Objects.hash(context.getPackageId(), context.getSourcePath());
-        return hashCodeForCurrentContext == Objects.hash(packageId, srcRoot);
+    /**
+     * Total size of the open-api definitions retained by the handler in bytes.
+     * @return size of the retained definitions
+     */
+    public long getRetainedDefinitionsSize() {
+        return this.contexts.values().stream()
+                .mapToLong(OpenApiDocContext::getDefinitionsSize)
+                .sum();
+    }
+
+    /**
+     * {@code ContextKey} identifies the context of a package by its id and source root.
+     */
+    private static final class ContextKey {
+        private final PackageId packageId;
+        private final Path srcRoot;
+
+        private ContextKey(PackageId packageId, Path srcRoot) {
+            this.packageId = packageId;
+            this.srcRoot = srcRoot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContextKey)) {
+                return false;
+            }
+            ContextKey that = (ContextKey) o;
+            return Objects.equals(packageId, that.packageId) && Objects.equals(srcRoot, that.srcRoot);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(packageId, srcRoot);
+        }
     }
 }
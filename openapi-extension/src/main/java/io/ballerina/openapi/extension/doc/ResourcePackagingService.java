@@ -16,94 +16,122 @@
 
 package io.ballerina.openapi.extension.doc;
 
-import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.extension.Constants;
 import io.ballerina.openapi.extension.context.OpenApiDocContext;
 
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Enumeration;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * {@code ResourcePackagingService} updates generated ballerina executable jar.
  */
 public class ResourcePackagingService {
-    private static final String TARGET_FILE_NAME = "target_exec.jar";
-    private static final PrintStream ERR = System.err;
 
-    public void updateJarFile(Path targetPath, String srcFileName, OpenApiDocContext context) throws IOException {
-        Path srcFile = targetPath.resolve(srcFileName);
-        Path targetFile = targetPath.resolve(TARGET_FILE_NAME);
-        generateUpdatedJar(srcFile, targetFile, context);
-        boolean successful = deleteOldFile(srcFile);
-        if (successful) {
-            renameGeneratedFile(targetFile, srcFile);
-        }
-    }
-
-    private void generateUpdatedJar(Path srcFile, Path targetFile, OpenApiDocContext context) throws IOException {
-        try (JarFile srcJar = new JarFile(srcFile.toString())) {
-            try (ZipOutputStream outStream = new ZipOutputStream(new BufferedOutputStream(
-                    new FileOutputStream(targetFile.toString())))) {
-                // add generated open-api doc related resources to target jar
-                addOpenApiResources(outStream, context);
-
-                // copy all the content in the src-jar to the new jar
-                for (Enumeration<JarEntry> entries = srcJar.entries(); entries.hasMoreElements();) {
-                    JarEntry element = entries.nextElement();
-                    outStream.putNextEntry(element);
-                    try (InputStream inputStream = srcJar.getInputStream(element)) {
-                        CodegenUtils.copyContent(inputStream, outStream);
-                        outStream.closeEntry();
-                    }
-                }
-            }
-        }
-    }
-
-    private void addOpenApiResources(ZipOutputStream outStream, OpenApiDocContext context) throws IOException {
-        Path resourcesDirectory = Paths.get(
-                Constants.RESOURCES_DIR_NAME, Constants.PACKAGE_ORG, Constants.PACKAGE_NAME);
+    /**
+     * Create the resources to be embedded for the open-api docs of the given context. Each doc is embedded as the
+     * minified JSON, a gzip compressed copy of it and a strong ETag of it, so that the docs can be served without any
+     * processing per request. A doc which could not be minified is embedded as it is, without the compressed copy and
+     * the ETag.
+     *
+     * @param context open-api doc context of the package
+     * @return resources to be embedded
+     * @throws IOException if the docs could not be compressed
+     */
+    public List<EmbeddedResource> createEmbeddedResources(OpenApiDocContext context) throws IOException {
+        List<EmbeddedResource> resources = new ArrayList<>();
         for (OpenApiDocContext.OpenApiDefinition definition: context.getOpenApiDetails()) {
             // if auto-embed-to-service is disabled, skip the current definition
             if (!definition.isAutoEmbedToService()) {
                 continue;
             }
 
-            try (InputStream inputStream = new ByteArrayInputStream(definition.getDefinition().getBytes())) {
-                Path targetFile = resourcesDirectory.resolve(definition.getFileName());
-                outStream.putNextEntry(new ZipEntry(targetFile.toString()));
-                CodegenUtils.copyContent(inputStream, outStream);
-                outStream.closeEntry();
+            String fileName = definition.getFileName();
+            byte[] content = definition.getDefinition().getBytes(StandardCharsets.UTF_8);
+            resources.add(new EmbeddedResource(fileName, content));
+            if (!definition.isMinified()) {
+                continue;
+            }
+            resources.add(new EmbeddedResource(fileName + Constants.GZIP_EXTENSION, gzip(content)));
+            resources.add(new EmbeddedResource(fileName + Constants.ETAG_EXTENSION,
+                    generateETag(content).getBytes(StandardCharsets.UTF_8)));
+        }
+        return Collections.unmodifiableList(resources);
+    }
+
+    /**
+     * Add the given resources to the given jar. The jar is opened as a zip file system, which copies the existing
+     * entries in their compressed form and only compresses the new entries, so the cost of the update depends on the
+     * size of the docs rather than on the size of the jar.
+     *
+     * @param targetPath  directory of the jar
+     * @param srcFileName file name of the jar
+     * @param resources   resources to be embedded
+     * @throws IOException if the jar could not be updated
+     */
+    public void updateJarFile(Path targetPath, String srcFileName, List<EmbeddedResource> resources)
+            throws IOException {
+        if (resources.isEmpty()) {
+            return;
+        }
+        Path srcFile = targetPath.resolve(srcFileName);
+        try (FileSystem jarFileSystem = FileSystems.newFileSystem(srcFile, (ClassLoader) null)) {
+            Path resourcesDirectory = jarFileSystem.getPath(
+                    Constants.RESOURCES_DIR_NAME, Constants.PACKAGE_ORG, Constants.PACKAGE_NAME);
+            Files.createDirectories(resourcesDirectory);
+            for (EmbeddedResource resource : resources) {
+                Files.write(resourcesDirectory.resolve(resource.getFileName()), resource.getContent());
             }
         }
     }
 
-    private boolean deleteOldFile(Path sourceFilePath) {
-        // delete old jar file
-        File sourceFile = sourceFilePath.toFile();
-        if (sourceFile.exists()) {
-            return sourceFile.delete();
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+            gzipStream.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static String generateETag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
         }
-        return true;
     }
 
-    private void renameGeneratedFile(Path targetFilePath, Path sourceFilePath) {
-        File targetFile = targetFilePath.toFile();
-        boolean success = targetFile.renameTo(sourceFilePath.toFile());
-        if (!success) {
-            ERR.println("error [open-api extension]: could not rename the generated executable jar");
+    /**
+     * {@code EmbeddedResource} contains a resource to be embedded in the resources directory of the jar.
+     */
+    public static class EmbeddedResource {
+        private final String fileName;
+        private final byte[] content;
+
+        EmbeddedResource(String fileName, byte[] content) {
+            this.fileName = fileName;
+            this.content = content;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public byte[] getContent() {
+            return content;
         }
     }
 }
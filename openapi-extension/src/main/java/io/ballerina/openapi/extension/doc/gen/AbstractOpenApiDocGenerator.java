@@ -36,10 +36,12 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -89,31 +91,31 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
                         updateCompilerContext(context, location, errorCode);
                         return;
                     }
-                    String openApiDefinition = Files.readString(resolverResponse.getContractPath().get());
-                    updateOpenApiContext(currentPackage, srcRoot, openApiDocName, openApiDefinition, embed);
+                    Path contractPath = resolverResponse.getContractPath().get();
+                    String openApiDefinition = Files.readString(contractPath);
+                    boolean isJson = contractPath.getFileName().toString().toLowerCase(Locale.ROOT)
+                            .endsWith(Constants.JSON_EXTENSION);
+                    try {
+                        // embed the contract as minified JSON, regardless of the format of the contract file
+                        openApiDefinition = ServiceToOpenAPIConverterUtils.minifyOpenAPIContract(openApiDefinition,
+                                isJson);
+                    } catch (IOException e) {
+                        // a contract which could not be minified is embedded as it is, without the compressed copy
+                        OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_108;
+                        updateCompilerContext(context, location, errorCode, e.getMessage());
+                        updateOpenApiContext(currentPackage, srcRoot, openApiDocName, openApiDefinition, embed,
+                                false);
+                        return;
+                    }
+                    updateOpenApiContext(currentPackage, srcRoot, openApiDocName, openApiDefinition, embed, true);
                 } else {
                     // generate open-api doc and update the context if the `contract` configuration is not available
-                    String openApiDefinition = generateOpenApiDoc(
-                            config.getSemanticModel(), config.getSyntaxTree(), serviceNode, openApiDocName);
-                    if (null != openApiDefinition && !openApiDefinition.isBlank()) {
-                        updateOpenApiContext(
-                                currentPackage, srcRoot, openApiDocName, openApiDefinition, embed);
-                    } else {
-                        OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_107;
-                        updateCompilerContext(context, location, errorCode);
-                    }
+                    updateGeneratedOpenApiContext(config, context, location, currentPackage, srcRoot, openApiDocName,
+                            embed);
                 }
             } else {
                 // generate open-api doc and update the context
-                String openApiDefinition = generateOpenApiDoc(
-                        config.getSemanticModel(), config.getSyntaxTree(), serviceNode, openApiDocName);
-                if (null != openApiDefinition && !openApiDefinition.isBlank()) {
-                    updateOpenApiContext(
-                            currentPackage, srcRoot, openApiDocName, openApiDefinition, true);
-                } else {
-                    OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_107;
-                    updateCompilerContext(context, location, errorCode);
-                }
+                updateGeneratedOpenApiContext(config, context, location, currentPackage, srcRoot, openApiDocName, true);
             }
         } catch (Exception e) {
             // currently, we do not have open-api doc generation logic for following scenarios:
@@ -124,15 +126,15 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
     }
 
     private void updateOpenApiContext(Package currentPackage, Path srcRoot, String openApiDocName,
-                                      String openApiDefinition, boolean embed) {
+                                      String openApiDefinition, boolean embed, boolean minified) {
         OpenApiDocContext.OpenApiDefinition openApiDef = new OpenApiDocContext
-                .OpenApiDefinition(openApiDocName, openApiDefinition, embed);
-        getContextHandler().updateContext(currentPackage.packageId(), srcRoot, openApiDef);
+                .OpenApiDefinition(openApiDocName, openApiDefinition, embed, minified);
+        getContextHandler().updateContext(currentPackage, srcRoot, openApiDef);
     }
 
     private void updateCompilerContext(SyntaxNodeAnalysisContext context, NodeLocation location,
-                                       OpenApiDiagnosticCode errorCode) {
-        Diagnostic diagnostic = getDiagnostics(errorCode, location);
+                                       OpenApiDiagnosticCode errorCode, Object... args) {
+        Diagnostic diagnostic = getDiagnostics(errorCode, location, args);
         context.reportDiagnostic(diagnostic);
     }
 
@@ -162,12 +164,33 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
                 .map(en -> en.toString().trim());
     }
 
+    private void updateGeneratedOpenApiContext(OpenApiDocConfig config, SyntaxNodeAnalysisContext context,
+                                               NodeLocation location, Package currentPackage, Path srcRoot,
+                                               String openApiDocName, boolean embed) {
+        String openApiDefinition;
+        try {
+            openApiDefinition = generateOpenApiDoc(config.getSemanticModel(), config.getSyntaxTree(),
+                    config.getServiceNode(), openApiDocName);
+        } catch (IOException e) {
+            OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_102;
+            updateCompilerContext(context, location, errorCode, e.getMessage());
+            return;
+        }
+        if (null != openApiDefinition && !openApiDefinition.isBlank()) {
+            updateOpenApiContext(currentPackage, srcRoot, openApiDocName, openApiDefinition, embed, true);
+        } else {
+            OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_107;
+            updateCompilerContext(context, location, errorCode);
+        }
+    }
+
     private String generateOpenApiDoc(SemanticModel semanticModel, SyntaxTree syntaxTree,
-                                      ServiceDeclarationNode serviceNode, String outputFileName) {
+                                      ServiceDeclarationNode serviceNode, String outputFileName)
+            throws IOException {
         ModulePartNode modulePartNode = syntaxTree.rootNode();
         List<ListenerDeclarationNode> listenerNodes = extractListenerNodes(modulePartNode);
-        return ServiceToOpenAPIConverterUtils.generateOASForGivenFormat(serviceNode, true, listenerNodes,
-                semanticModel, outputFileName);
+        return ServiceToOpenAPIConverterUtils.generateMinifiedOAS(serviceNode, listenerNodes, semanticModel,
+                outputFileName).orElse(null);
     }
 
     private List<ListenerDeclarationNode> extractListenerNodes(ModulePartNode modulePartNode) {
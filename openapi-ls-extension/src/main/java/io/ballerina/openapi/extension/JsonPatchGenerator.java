@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the JSON Patch (RFC 6902) between two JSON documents. Objects are compared member by member and arrays
+ * element by element, so an edit of a single operation of a service results in a patch of that operation only.
+ *
+ * @since 2.0.0
+ */
+public final class JsonPatchGenerator {
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String REPLACE = "replace";
+
+    private JsonPatchGenerator() {
+    }
+
+    /**
+     * Generate the operations that turn the source document into the target document.
+     *
+     * @param source document known by the client
+     * @param target current document
+     * @return list of patch operations, empty when both documents are equal
+     */
+    public static List<JsonPatchOperation> generatePatch(JsonElement source, JsonElement target) {
+        List<JsonPatchOperation> patch = new ArrayList<>();
+        generatePatch(source, target, "", patch);
+        return patch;
+    }
+
+    private static void generatePatch(JsonElement source, JsonElement target, String path,
+                                      List<JsonPatchOperation> patch) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isJsonObject() && target.isJsonObject()) {
+            generateObjectPatch(source.getAsJsonObject(), target.getAsJsonObject(), path, patch);
+        } else if (source.isJsonArray() && target.isJsonArray()) {
+            generateArrayPatch(source.getAsJsonArray(), target.getAsJsonArray(), path, patch);
+        } else {
+            patch.add(new JsonPatchOperation(REPLACE, path, target));
+        }
+    }
+
+    private static void generateObjectPatch(JsonObject source, JsonObject target, String path,
+                                            List<JsonPatchOperation> patch) {
+        for (Map.Entry<String, JsonElement> member : source.entrySet()) {
+            String memberPath = path + "/" + escape(member.getKey());
+            JsonElement targetMember = target.get(member.getKey());
+            if (targetMember == null) {
+                patch.add(new JsonPatchOperation(REMOVE, memberPath, null));
+            } else {
+                generatePatch(member.getValue(), targetMember, memberPath, patch);
+            }
+        }
+        for (Map.Entry<String, JsonElement> member : target.entrySet()) {
+            if (!source.has(member.getKey())) {
+                patch.add(new JsonPatchOperation(ADD, path + "/" + escape(member.getKey()), member.getValue()));
+            }
+        }
+    }
+
+    private static void generateArrayPatch(JsonArray source, JsonArray target, String path,
+                                           List<JsonPatchOperation> patch) {
+        int commonSize = Math.min(source.size(), target.size());
+        for (int index = 0; index < commonSize; index++) {
+            generatePatch(source.get(index), target.get(index), path + "/" + index, patch);
+        }
+        // removals go from the end, so that the indices of the remaining elements do not shift
+        for (int index = source.size() - 1; index >= commonSize; index--) {
+            patch.add(new JsonPatchOperation(REMOVE, path + "/" + index, null));
+        }
+        for (int index = commonSize; index < target.size(); index++) {
+            patch.add(new JsonPatchOperation(ADD, path + "/" + index, target.get(index)));
+        }
+    }
+
+    // JSON Pointer escaping (RFC 6901), the OpenAPI paths contain '/'
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -25,6 +25,7 @@ import org.ballerinalang.langserver.commons.registration.BallerinaClientCapabili
 public class OpenAPIClientCapabilities extends BallerinaClientCapability {
 
     private boolean generateOpenAPI;
+    private boolean generateOpenAPIDelta;
 
     public OpenAPIClientCapabilities() {
         super(OpenAPIServiceConstants.CAPABILITY_NAME);
@@ -37,4 +38,12 @@ public class OpenAPIClientCapabilities extends BallerinaClientCapability {
     public void setGenerateOpenAPI(boolean generateOpenAPI) {
         this.generateOpenAPI = generateOpenAPI;
     }
+
+    public boolean isGenerateOpenAPIDelta() {
+        return generateOpenAPIDelta;
+    }
+
+    public void setGenerateOpenAPIDelta(boolean generateOpenAPIDelta) {
+        this.generateOpenAPIDelta = generateOpenAPIDelta;
+    }
 }
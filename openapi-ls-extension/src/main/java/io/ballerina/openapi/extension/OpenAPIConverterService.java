@@ -22,7 +22,6 @@ package io.ballerina.openapi.extension;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.service.OASResult;
-import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -36,8 +35,19 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 /**
  * The extended service for the Ballerina to OpenAPI LS extension endpoint.
@@ -47,7 +57,17 @@ import java.util.concurrent.CompletableFuture;
 @JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
 @JsonSegment("openAPILSExtension")
 public class OpenAPIConverterService implements ExtendedLanguageServerService {
+    private static final int MAX_THREADS = 2;
+    // requests are coalesced per kind and document, hence a full queue means many documents are waiting
+    private static final int MAX_QUEUED_REQUESTS = 32;
+    private static final String THREAD_NAME_PREFIX = "openapi-ls-extension-";
+
     private WorkspaceManager workspaceManager;
+    private final OpenAPIServiceCache serviceCache = new OpenAPIServiceCache();
+    private final OpenAPIDeltaTracker deltaTracker = new OpenAPIDeltaTracker();
+    private final ExecutorService executor = createExecutor();
+    // latest request per request kind and document, an older request is cancelled once a new one arrives
+    private final Map<String, CompletableFuture<?>> latestRequests = new ConcurrentHashMap<>();
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
@@ -74,19 +94,24 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     @JsonRequest
     @Deprecated
     public CompletableFuture<OpenAPIConverterResponse> generateOpenAPIFile(OpenAPIConverterRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return submitRequest("generateOpenAPIFile:" + request.getDocumentFilePath(), cancelled -> {
             OpenAPIConverterResponse response = new OpenAPIConverterResponse();
             String fileUri = request.getDocumentFilePath();
-            Optional<SyntaxTree> syntaxTree = getPathFromURI(fileUri).flatMap(workspaceManager::syntaxTree);
-            Optional<SemanticModel> semanticModel = getPathFromURI(fileUri).flatMap(workspaceManager::semanticModel);
+            Optional<Path> filePath = getPathFromURI(fileUri);
+            Optional<SyntaxTree> syntaxTree = filePath.flatMap(workspaceManager::syntaxTree);
+            Optional<SemanticModel> semanticModel = filePath.flatMap(workspaceManager::semanticModel);
             if (semanticModel.isEmpty() || syntaxTree.isEmpty()) {
                 StringBuilder errorString = getErrorMessage(syntaxTree, semanticModel);
                 response.setError(errorString.toString());
             } else {
                 response.setError(null);
-                List<OASResult> yamlContent = ServiceToOpenAPIConverterUtils.generateOAS3Definition(
-                        syntaxTree.get(), semanticModel.get(), null, false,
-                        null);
+                // the cache checks for cancellation between services
+                List<OASResult> yamlContent = serviceCache.generateOAS3Definition(filePath.get(), syntaxTree.get(),
+                        semanticModel.get(), cancelled);
+                // the YAML of a superseded request is not needed
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException();
+                }
                 //Response should handle
                 if (!yamlContent.isEmpty() && (yamlContent.get(0).getOpenAPI().isPresent())) {
                     Optional<String> yaml = yamlContent.get(0).getYaml();
@@ -105,18 +130,20 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<OpenAPIConverterResponse> generateOpenAPI(OpenAPIConverterRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return submitRequest("generateOpenAPI:" + request.getDocumentFilePath(), cancelled -> {
             OpenAPIConverterResponse response = new OpenAPIConverterResponse();
             String fileUri = request.getDocumentFilePath();
-            Optional<SyntaxTree> syntaxTree = getPathFromURI(fileUri).flatMap(workspaceManager::syntaxTree);
-            Optional<SemanticModel> semanticModel = getPathFromURI(fileUri).flatMap(workspaceManager::semanticModel);
+            Optional<Path> filePath = getPathFromURI(fileUri);
+            Optional<SyntaxTree> syntaxTree = filePath.flatMap(workspaceManager::syntaxTree);
+            Optional<SemanticModel> semanticModel = filePath.flatMap(workspaceManager::semanticModel);
             if (semanticModel.isEmpty() || syntaxTree.isEmpty()) {
                 StringBuilder errorString = getErrorMessage(syntaxTree, semanticModel);
                 response.setError(errorString.toString());
             } else {
                 response.setError(null);
-                List<OASResult> oasResult = ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree.get(),
-                        semanticModel.get(), null, false, null);
+                // only the services changed since the previous request are generated again
+                List<OASResult> oasResult = serviceCache.generateOAS3Definition(filePath.get(), syntaxTree.get(),
+                        semanticModel.get(), cancelled);
                 //Response handle with returning list of {@code OASResult} model.
                 response.setContent(oasResult);
             }
@@ -124,6 +151,76 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
         });
     }
 
+    /**
+     * This API returns the OpenAPI content of the document as a JSON Patch (RFC 6902) against the revision last
+     * received by the client, which keeps the responses small while the document is edited. The full list of {@code
+     * OASResult} is returned only when the client has no revision or its revision is no longer known.
+     */
+    @JsonRequest
+    public CompletableFuture<OpenAPIDeltaResponse> generateOpenAPIDelta(OpenAPIDeltaRequest request) {
+        return submitRequest("generateOpenAPIDelta:" + request.getDocumentFilePath(), cancelled -> {
+            String fileUri = request.getDocumentFilePath();
+            Optional<Path> filePath = getPathFromURI(fileUri);
+            Optional<SyntaxTree> syntaxTree = filePath.flatMap(workspaceManager::syntaxTree);
+            Optional<SemanticModel> semanticModel = filePath.flatMap(workspaceManager::semanticModel);
+            if (semanticModel.isEmpty() || syntaxTree.isEmpty()) {
+                OpenAPIDeltaResponse response = new OpenAPIDeltaResponse();
+                response.setError(getErrorMessage(syntaxTree, semanticModel).toString());
+                return response;
+            }
+            List<OASResult> oasResult = serviceCache.generateOAS3Definition(filePath.get(), syntaxTree.get(),
+                    semanticModel.get(), cancelled);
+            return deltaTracker.createDelta(filePath.get(), request.getRevision(), oasResult);
+        });
+    }
+
+    /**
+     * Run the given request on the executor of the extension. A pending request of the same kind for the same document
+     * is cancelled, since its response is superseded. The request is given a check for cancellation, which turns true
+     * when the client cancels the request with {@code $/cancelRequest} or when a newer request supersedes it. The
+     * request fails with a {@link RejectedExecutionException} if the queue of the executor is full.
+     */
+    private <T> CompletableFuture<T> submitRequest(String requestKey, Function<BooleanSupplier, T> request) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<?> superseded = latestRequests.put(requestKey, future);
+        if (superseded != null) {
+            superseded.cancel(false);
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    // skip the request if it was cancelled while waiting in the queue
+                    if (!future.isDone()) {
+                        future.complete(request.apply(future::isCancelled));
+                    }
+                } catch (CancellationException e) {
+                    future.cancel(false);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    latestRequests.remove(requestKey, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the queue is full of requests for other documents, the client is expected to request again later
+            latestRequests.remove(requestKey, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_REQUESTS), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
     // Generate error message.
     private StringBuilder getErrorMessage(Optional<SyntaxTree> syntaxTree, Optional<SemanticModel> semanticModel) {
         StringBuilder errorString = new StringBuilder();
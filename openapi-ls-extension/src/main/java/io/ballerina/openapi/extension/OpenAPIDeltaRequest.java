@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+/**
+ * The request of the OpenAPI delta endpoint, carrying the revision of the OpenAPI content last received by the client.
+ *
+ * @since 2.0.0
+ */
+public class OpenAPIDeltaRequest {
+
+    private String documentFilePath;
+    private String revision;
+
+    public OpenAPIDeltaRequest(String documentFilePath, String revision) {
+        this.documentFilePath = documentFilePath;
+        this.revision = revision;
+    }
+
+    public String getDocumentFilePath() {
+        return documentFilePath;
+    }
+
+    public void setDocumentFilePath(String documentFilePath) {
+        this.documentFilePath = documentFilePath;
+    }
+
+    public String getRevision() {
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+        this.revision = revision;
+    }
+}
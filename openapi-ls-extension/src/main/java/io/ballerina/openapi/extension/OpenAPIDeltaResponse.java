@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.google.gson.JsonElement;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The response of the OpenAPI delta endpoint. When the client revision is known, {@code patch} holds the JSON Patch
+ * (RFC 6902) from that revision to {@code revision}. Otherwise {@code content} holds the full list of {@code
+ * OASResult}s of the document.
+ *
+ * @since 2.0.0
+ */
+public class OpenAPIDeltaResponse {
+
+    private String revision;
+    private String baseRevision;
+    private List<JsonPatchOperation> patch;
+    private JsonElement content;
+    private String error;
+
+    public OpenAPIDeltaResponse() {
+    }
+
+    public String getRevision() {
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+        this.revision = revision;
+    }
+
+    public String getBaseRevision() {
+        return baseRevision;
+    }
+
+    public void setBaseRevision(String baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+
+    public List<JsonPatchOperation> getPatch() {
+        return patch;
+    }
+
+    public void setPatch(List<JsonPatchOperation> patch) {
+        this.patch = patch;
+    }
+
+    public JsonElement getContent() {
+        return content;
+    }
+
+    public void setContent(JsonElement content) {
+        this.content = content;
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(this.error);
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
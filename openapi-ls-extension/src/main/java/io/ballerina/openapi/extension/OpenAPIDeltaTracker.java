@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import io.ballerina.openapi.converter.service.OASResult;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This {@code OpenAPIDeltaTracker} keeps the latest revisions of the OpenAPI content sent for each document, so that
+ * a client which already has one of them only receives the JSON Patch to the current content.
+ *
+ * @since 2.0.0
+ */
+public class OpenAPIDeltaTracker {
+    // a few revisions are kept, so that a response lost by a cancelled request does not force a full payload
+    private static final int MAX_REVISIONS = 3;
+    // the extension is not notified when a document is closed, hence the least recently requested documents are
+    // evicted instead
+    static final int MAX_DOCUMENTS = 16;
+
+    // serialize the same way as the JSON-RPC messages, so that the patch applies to what the client received
+    private final Gson gson = new MessageJsonHandler(Collections.emptyMap()).getGson();
+    // revisions of an earlier session of the language server must not match the ones of this session
+    private final String sessionId = UUID.randomUUID().toString();
+    private final AtomicLong revisionCounter = new AtomicLong();
+    private final Map<Path, Deque<Revision>> documentRevisions = new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Deque<Revision>> eldest) {
+            return size() > MAX_DOCUMENTS;
+        }
+    };
+
+    /**
+     * Create the delta response of the given document content against the revision known by the client.
+     *
+     * @param filePath       path of the document
+     * @param clientRevision revision last received by the client, null when the client has none
+     * @param results        current {@code OASResult}s of the document
+     * @return response with the patch, or with the full content when the client revision is unknown
+     */
+    public OpenAPIDeltaResponse createDelta(Path filePath, String clientRevision, List<OASResult> results) {
+        JsonElement content = gson.toJsonTree(results);
+        Revision current;
+        Revision base;
+        // only the revisions are updated under the lock, the patch is generated from the immutable contents after
+        synchronized (documentRevisions) {
+            Deque<Revision> revisions = documentRevisions.computeIfAbsent(filePath, path -> new ArrayDeque<>());
+            Revision latest = revisions.peekLast();
+            if (latest != null && latest.content.equals(content)) {
+                current = latest;
+            } else {
+                current = new Revision(sessionId + "-" + revisionCounter.incrementAndGet(), content);
+                revisions.addLast(current);
+                if (revisions.size() > MAX_REVISIONS) {
+                    revisions.removeFirst();
+                }
+            }
+            base = findRevision(revisions, clientRevision);
+        }
+
+        OpenAPIDeltaResponse response = new OpenAPIDeltaResponse();
+        response.setRevision(current.id);
+        if (base == null) {
+            response.setContent(current.content);
+        } else {
+            response.setBaseRevision(base.id);
+            response.setPatch(JsonPatchGenerator.generatePatch(base.content, current.content));
+        }
+        return response;
+    }
+
+    private static Revision findRevision(Deque<Revision> revisions, String revisionId) {
+        if (revisionId == null) {
+            return null;
+        }
+        for (Revision revision : revisions) {
+            if (revision.id.equals(revisionId)) {
+                return revision;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * OpenAPI content of a document sent to the client under a revision id.
+     */
+    private static class Revision {
+        private final String id;
+        private final JsonElement content;
+
+        Revision(String id, JsonElement content) {
+            this.id = id;
+            this.content = content;
+        }
+    }
+}
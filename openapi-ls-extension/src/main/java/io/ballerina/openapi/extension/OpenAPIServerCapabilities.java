@@ -25,6 +25,7 @@ import org.ballerinalang.langserver.commons.registration.BallerinaServerCapabili
 public class OpenAPIServerCapabilities extends BallerinaServerCapability {
 
     private boolean generateOpenAPI;
+    private boolean generateOpenAPIDelta;
 
     public OpenAPIServerCapabilities() {
         super(OpenAPIServiceConstants.CAPABILITY_NAME);
@@ -37,4 +38,12 @@ public class OpenAPIServerCapabilities extends BallerinaServerCapability {
     public void setGenerateOpenAPI(boolean generateOpenAPI) {
         this.generateOpenAPI = generateOpenAPI;
     }
+
+    public boolean isGenerateOpenAPIDelta() {
+        return generateOpenAPIDelta;
+    }
+
+    public void setGenerateOpenAPIDelta(boolean generateOpenAPIDelta) {
+        this.generateOpenAPIDelta = generateOpenAPIDelta;
+    }
 }
@@ -33,6 +33,7 @@ public class OpenAPIServerCapabilitySetter extends
     public Optional<OpenAPIServerCapabilities> build() {
         OpenAPIServerCapabilities capabilities = new OpenAPIServerCapabilities();
         capabilities.setGenerateOpenAPI(true);
+        capabilities.setGenerateOpenAPIDelta(true);
         return Optional.of(capabilities);
     }
 
@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.Documentable;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.service.OASResult;
+import io.ballerina.openapi.converter.service.OpenAPIEndpointMapper;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * This {@code OpenAPIServiceCache} keeps the generated {@code OASResult}s of the documents, so that the OpenAPI
+ * definitions are only generated again for the services that changed since the previous request.
+ *
+ * A service is identified by a fingerprint of its source, the listeners of the document and the types that its
+ * resources reach. When neither the syntax tree nor the semantic model of a document changed, the previous results
+ * are returned as they are.
+ *
+ * @since 2.0.0
+ */
+public class OpenAPIServiceCache {
+    private final Map<Path, DocumentEntry> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Provide the {@code OASResult}s of all the services in the given document, generating only the ones that are
+     * not cached.
+     *
+     * @param filePath      path of the document
+     * @param syntaxTree    syntax tree of the document
+     * @param semanticModel semantic model of the module of the document
+     * @param cancelled     checked between services, the generation stops once it returns true
+     * @return {@code OASResult}s of the services in the document
+     * @throws CancellationException if the generation is cancelled
+     */
+    public List<OASResult> generateOAS3Definition(Path filePath, SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                  BooleanSupplier cancelled) {
+        // an erroneous module does not generate any definition, hence there is nothing to cache
+        if (semanticModel.diagnostics().stream().anyMatch(diagnostic ->
+                diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
+            this.documents.remove(filePath);
+            return ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree, semanticModel, null, false,
+                    null);
+        }
+        DocumentEntry previous = this.documents.get(filePath);
+        if (previous != null && previous.isGeneratedFrom(syntaxTree, semanticModel)) {
+            return previous.getResults();
+        }
+        // generated outside the map, so that a long generation does not block the requests of other documents
+        DocumentEntry current = generateDocumentEntry(syntaxTree, semanticModel, previous, cancelled);
+        // the entry is only published over the one it is generated from, an entry published by a concurrent request
+        // in the meantime is kept
+        if (previous == null) {
+            this.documents.putIfAbsent(filePath, current);
+        } else {
+            this.documents.replace(filePath, previous, current);
+        }
+        return current.getResults();
+    }
+
+    private DocumentEntry generateDocumentEntry(SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                DocumentEntry previous, BooleanSupplier cancelled) {
+        List<ListenerDeclarationNode> endpoints = new ArrayList<>();
+        List<ServiceDeclarationNode> services = new ArrayList<>();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (Node node : modulePartNode.members()) {
+            if (node.kind() == SyntaxKind.LISTENER_DECLARATION) {
+                endpoints.add((ListenerDeclarationNode) node);
+            } else if (node.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                services.add((ServiceDeclarationNode) node);
+            }
+        }
+
+        Map<String, OASResult> previousResults = previous != null ? previous.getServiceResults() :
+                Collections.emptyMap();
+        Map<String, OASResult> serviceResults = new HashMap<>();
+        List<OASResult> results = new ArrayList<>();
+        for (ServiceDeclarationNode serviceNode : services) {
+            // a cancelled generation leaves the previous entry of the document as it is
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            String fingerprint = generateFingerprint(syntaxTree, semanticModel, endpoints, serviceNode);
+            OASResult result = previousResults.get(fingerprint);
+            if (result == null) {
+                String serviceNodeName = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServiceBasePath(serviceNode);
+                String openApiName = ServiceToOpenAPIConverterUtils.getOpenApiFileName(syntaxTree.filePath(),
+                        serviceNodeName, false);
+                result = ServiceToOpenAPIConverterUtils.generateOAS(serviceNode, endpoints, semanticModel,
+                        openApiName);
+                result.setServiceName(openApiName);
+            }
+            serviceResults.put(fingerprint, result);
+            results.add(result);
+        }
+        return new DocumentEntry(syntaxTree, semanticModel, results, serviceResults);
+    }
+
+    /**
+     * Generate the fingerprint of a service from the sources that the generated definition depends on: the file
+     * name, the listeners, the service itself and the types that the resources of the service reach.
+     */
+    private String generateFingerprint(SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                       List<ListenerDeclarationNode> endpoints, ServiceDeclarationNode serviceNode) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        update(digest, syntaxTree.filePath());
+        for (ListenerDeclarationNode endpoint : endpoints) {
+            update(digest, endpoint.toSourceCode());
+        }
+        update(digest, serviceNode.toSourceCode());
+
+        Set<String> visitedTypes = new HashSet<>();
+        for (Node member : serviceNode.members()) {
+            if (member.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                continue;
+            }
+            Optional<Symbol> symbol = semanticModel.symbol((FunctionDefinitionNode) member);
+            if (symbol.isEmpty() || !(symbol.get() instanceof MethodSymbol)) {
+                continue;
+            }
+            FunctionTypeSymbol functionType = ((MethodSymbol) symbol.get()).typeDescriptor();
+            if (functionType.params().isPresent()) {
+                for (ParameterSymbol parameter : functionType.params().get()) {
+                    updateType(digest, parameter.typeDescriptor(), visitedTypes);
+                }
+            }
+            Optional<TypeSymbol> returnType = functionType.returnTypeDescriptor();
+            if (returnType.isPresent()) {
+                updateType(digest, returnType.get(), visitedTypes);
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Add the definitions and the documentation of the types reachable from the given type to the fingerprint.
+     */
+    private void updateType(MessageDigest digest, TypeSymbol typeSymbol, Set<String> visitedTypes) {
+        if (typeSymbol instanceof TypeReferenceTypeSymbol) {
+            TypeReferenceTypeSymbol typeReference = (TypeReferenceTypeSymbol) typeSymbol;
+            if (!visitedTypes.add(typeReference.signature())) {
+                return;
+            }
+            update(digest, typeReference.signature());
+            TypeSymbol typeDescriptor = typeReference.typeDescriptor();
+            update(digest, typeDescriptor.signature());
+            Symbol definition = typeReference.definition();
+            if (definition instanceof Documentable) {
+                updateDocumentation(digest, ((Documentable) definition).documentation());
+            }
+            updateType(digest, typeDescriptor, visitedTypes);
+        } else if (typeSymbol instanceof RecordTypeSymbol) {
+            RecordTypeSymbol recordType = (RecordTypeSymbol) typeSymbol;
+            for (TypeSymbol typeInclusion : recordType.typeInclusions()) {
+                updateType(digest, typeInclusion, visitedTypes);
+            }
+            for (Map.Entry<String, RecordFieldSymbol> field : recordType.fieldDescriptors().entrySet()) {
+                update(digest, field.getKey());
+                updateDocumentation(digest, ((Documentable) field.getValue()).documentation());
+                updateType(digest, field.getValue().typeDescriptor(), visitedTypes);
+            }
+        } else if (typeSymbol instanceof UnionTypeSymbol) {
+            for (TypeSymbol memberType : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                updateType(digest, memberType, visitedTypes);
+            }
+        } else if (typeSymbol instanceof IntersectionTypeSymbol) {
+            for (TypeSymbol memberType : ((IntersectionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                updateType(digest, memberType, visitedTypes);
+            }
+        } else if (typeSymbol instanceof TupleTypeSymbol) {
+            for (TypeSymbol memberType : ((TupleTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                updateType(digest, memberType, visitedTypes);
+            }
+        } else if (typeSymbol instanceof ArrayTypeSymbol) {
+            updateType(digest, ((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor(), visitedTypes);
+        } else if (typeSymbol instanceof MapTypeSymbol) {
+            updateType(digest, ((MapTypeSymbol) typeSymbol).typeParam(), visitedTypes);
+        } else if (typeSymbol instanceof TableTypeSymbol) {
+            updateType(digest, ((TableTypeSymbol) typeSymbol).rowTypeParameter(), visitedTypes);
+        } else if (typeSymbol instanceof StreamTypeSymbol) {
+            updateType(digest, ((StreamTypeSymbol) typeSymbol).typeParameter(), visitedTypes);
+        }
+    }
+
+    private void updateDocumentation(MessageDigest digest, Optional<Documentation> documentation) {
+        if (documentation.isEmpty()) {
+            return;
+        }
+        documentation.get().description().ifPresent(description -> update(digest, description));
+        for (Map.Entry<String, String> parameter : documentation.get().parameterMap().entrySet()) {
+            update(digest, parameter.getKey());
+            update(digest, parameter.getValue());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // prefix the length, so that consecutive values can not be confused with each other
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /**
+     * Cached results of a document, along with the syntax tree and the semantic model they are generated from. The
+     * syntax tree and the semantic model are weakly held, so that the cache does not retain old compilations.
+     */
+    private static class DocumentEntry {
+        private final WeakReference<SyntaxTree> syntaxTree;
+        private final WeakReference<SemanticModel> semanticModel;
+        private final List<OASResult> results;
+        private final Map<String, OASResult> serviceResults;
+
+        DocumentEntry(SyntaxTree syntaxTree, SemanticModel semanticModel, List<OASResult> results,
+                      Map<String, OASResult> serviceResults) {
+            this.syntaxTree = new WeakReference<>(syntaxTree);
+            this.semanticModel = new WeakReference<>(semanticModel);
+            this.results = Collections.unmodifiableList(results);
+            this.serviceResults = serviceResults;
+        }
+
+        boolean isGeneratedFrom(SyntaxTree syntaxTree, SemanticModel semanticModel) {
+            return this.syntaxTree.get() == syntaxTree && this.semanticModel.get() == semanticModel;
+        }
+
+        List<OASResult> getResults() {
+            return results;
+        }
+
+        Map<String, OASResult> getServiceResults() {
+            return serviceResults;
+        }
+    }
+}
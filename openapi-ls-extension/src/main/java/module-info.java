@@ -17,6 +17,7 @@
 module io.ballerina.openapi.extension.openAPILSExtension {
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
+    requires com.google.gson;
     requires handlebars;
     requires info.picocli;
     requires io.ballerina.lang;
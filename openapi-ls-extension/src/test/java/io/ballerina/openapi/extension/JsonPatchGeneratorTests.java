@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the JSON Patch generated between two documents by applying it to the source document and comparing the
+ * result with the target document.
+ */
+public class JsonPatchGeneratorTests {
+
+    @Test(description = "Test equal documents generate an empty patch")
+    public void generatePatchOfEqualDocuments() {
+        List<JsonPatchOperation> patch = assertPatch("{\"paths\": {\"/pets\": {\"get\": {}}}, \"list\": [1, 2]}",
+                "{\"list\": [1, 2], \"paths\": {\"/pets\": {\"get\": {}}}}");
+        Assert.assertTrue(patch.isEmpty());
+    }
+
+    @Test(description = "Test the '~' and '/' of the member names are escaped in the patch paths")
+    public void generatePatchWithEscapedPaths() {
+        List<JsonPatchOperation> patch = assertPatch(
+                "{\"paths\": {\"/pets/{id}\": {\"get\": {\"operationId\": \"getPet\"}}, \"a~b\": 1, \"~1\": 2}}",
+                "{\"paths\": {\"/pets/{id}\": {\"get\": {\"operationId\": \"findPet\"}}, \"a~b\": 3, \"/~\": 4}}");
+        Assert.assertEquals(getPaths(patch), List.of("/paths/~1pets~1{id}/get/operationId", "/paths/a~0b",
+                "/paths/~01", "/paths/~1~0"));
+    }
+
+    @Test(description = "Test the elements added to the end of an array")
+    public void generatePatchOfGrownArray() {
+        List<JsonPatchOperation> patch = assertPatch("{\"list\": [1, {\"a\": 2}]}",
+                "{\"list\": [1, {\"a\": 3}, [4], 5]}");
+        Assert.assertEquals(getPaths(patch), List.of("/list/1/a", "/list/2", "/list/3"));
+        Assert.assertEquals(getOps(patch), List.of("replace", "add", "add"));
+    }
+
+    @Test(description = "Test the elements removed from the end of an array are removed from the last one")
+    public void generatePatchOfShrunkArray() {
+        List<JsonPatchOperation> patch = assertPatch("[0, 1, 2, 3, 4]", "[5, 1]");
+        Assert.assertEquals(getPaths(patch), List.of("/0", "/4", "/3", "/2"));
+        Assert.assertEquals(getOps(patch), List.of("replace", "remove", "remove", "remove"));
+    }
+
+    @Test(description = "Test a value whose type changes is replaced")
+    public void generatePatchOfChangedTypes() {
+        List<JsonPatchOperation> patch = assertPatch(
+                "{\"object\": {\"a\": 1}, \"array\": [1], \"number\": 1, \"null\": null, \"removed\": true}",
+                "{\"object\": [1], \"array\": {\"0\": 1}, \"number\": \"1\", \"null\": false}");
+        Assert.assertEquals(getOps(patch), List.of("replace", "replace", "replace", "replace", "remove"));
+    }
+
+    @Test(description = "Test the whole document is replaced when the type of the root changes")
+    public void generatePatchOfReplacedRoot() {
+        List<JsonPatchOperation> patch = assertPatch("{\"a\": [1]}", "[{\"a\": [1]}]");
+        Assert.assertEquals(getPaths(patch), List.of(""));
+        Assert.assertEquals(getOps(patch), List.of("replace"));
+    }
+
+    private static List<JsonPatchOperation> assertPatch(String source, String target) {
+        JsonElement sourceDocument = new JsonParser().parse(source);
+        JsonElement targetDocument = new JsonParser().parse(target);
+        List<JsonPatchOperation> patch = JsonPatchGenerator.generatePatch(sourceDocument, targetDocument);
+        Assert.assertEquals(applyPatch(sourceDocument, patch), targetDocument);
+        return patch;
+    }
+
+    private static List<String> getPaths(List<JsonPatchOperation> patch) {
+        return patch.stream().map(JsonPatchOperation::getPath).collect(Collectors.toList());
+    }
+
+    private static List<String> getOps(List<JsonPatchOperation> patch) {
+        return patch.stream().map(JsonPatchOperation::getOp).collect(Collectors.toList());
+    }
+
+    /**
+     * Apply the patch to a copy of the document in the way a client would, following RFC 6902 and RFC 6901.
+     */
+    private static JsonElement applyPatch(JsonElement document, List<JsonPatchOperation> patch) {
+        JsonElement result = document.deepCopy();
+        for (JsonPatchOperation operation : patch) {
+            if (operation.getPath().isEmpty()) {
+                Assert.assertEquals(operation.getOp(), "replace");
+                result = operation.getValue().deepCopy();
+                continue;
+            }
+            String[] tokens = operation.getPath().substring(1).split("/", -1);
+            JsonElement parent = result;
+            for (int index = 0; index < tokens.length - 1; index++) {
+                parent = getChild(parent, unescape(tokens[index]));
+            }
+            String key = unescape(tokens[tokens.length - 1]);
+            if (parent.isJsonObject()) {
+                applyToObject(parent.getAsJsonObject(), key, operation);
+            } else {
+                applyToArray(parent.getAsJsonArray(), Integer.parseInt(key), operation);
+            }
+        }
+        return result;
+    }
+
+    private static void applyToObject(JsonObject parent, String key, JsonPatchOperation operation) {
+        switch (operation.getOp()) {
+            case "add":
+                parent.add(key, operation.getValue().deepCopy());
+                break;
+            case "replace":
+                Assert.assertTrue(parent.has(key), "No member to replace at " + operation.getPath());
+                parent.add(key, operation.getValue().deepCopy());
+                break;
+            case "remove":
+                Assert.assertNotNull(parent.remove(key), "No member to remove at " + operation.getPath());
+                break;
+            default:
+                Assert.fail("Unexpected operation " + operation.getOp());
+        }
+    }
+
+    private static void applyToArray(JsonArray parent, int index, JsonPatchOperation operation) {
+        switch (operation.getOp()) {
+            case "add":
+                Assert.assertTrue(index <= parent.size(), "Index out of the array at " + operation.getPath());
+                JsonArray elements = new JsonArray();
+                for (int position = 0; position < parent.size(); position++) {
+                    if (position == index) {
+                        elements.add(operation.getValue().deepCopy());
+                    }
+                    elements.add(parent.get(position));
+                }
+                if (index == parent.size()) {
+                    elements.add(operation.getValue().deepCopy());
+                }
+                while (parent.size() > 0) {
+                    parent.remove(0);
+                }
+                parent.addAll(elements);
+                break;
+            case "replace":
+                parent.set(index, operation.getValue().deepCopy());
+                break;
+            case "remove":
+                Assert.assertTrue(index < parent.size(), "No element to remove at " + operation.getPath());
+                parent.remove(index);
+                break;
+            default:
+                Assert.fail("Unexpected operation " + operation.getOp());
+        }
+    }
+
+    private static JsonElement getChild(JsonElement parent, String key) {
+        JsonElement child = parent.isJsonObject() ? parent.getAsJsonObject().get(key) :
+                parent.getAsJsonArray().get(Integer.parseInt(key));
+        Assert.assertNotNull(child, "No value at " + key);
+        return child;
+    }
+
+    // '~1' is unescaped before '~0', so that an escaped '~01' becomes '~1' and not '/'
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
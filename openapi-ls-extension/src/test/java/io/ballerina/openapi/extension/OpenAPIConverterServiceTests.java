@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests the {@code OpenAPIConverterService} cancels a request superseded by a newer request for the same document.
+ */
+public class OpenAPIConverterServiceTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/service_cache").toAbsolutePath();
+    private static final Path SERVICE_PATH = RES_DIR.resolve("service.bal");
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Test(description = "Test a superseded request is cancelled and only the latest request completes")
+    public void generateOpenAPIWithSupersededRequest() throws Exception {
+        CompletableFuture<OpenAPIConverterResponse> latest = assertSupersededRequest(
+                converterService -> converterService.generateOpenAPI(
+                        new OpenAPIConverterRequest(SERVICE_PATH.toUri().toString())));
+        OpenAPIConverterResponse response = latest.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertTrue(response.getError().isEmpty());
+        Assert.assertEquals(response.getContent().size(), 2);
+    }
+
+    @Test(description = "Test a superseded request of the deprecated endpoint is cancelled as well")
+    public void generateOpenAPIFileWithSupersededRequest() throws Exception {
+        CompletableFuture<OpenAPIConverterResponse> latest = assertSupersededRequest(
+                converterService -> converterService.generateOpenAPIFile(
+                        new OpenAPIConverterRequest(SERVICE_PATH.toUri().toString())));
+        OpenAPIConverterResponse response = latest.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertTrue(response.getError().isEmpty());
+        Assert.assertNotNull(response.getYamlContent());
+    }
+
+    /**
+     * Send two requests for the same document, the second one while the first one is being processed, and assert that
+     * the first one is cancelled without completing.
+     *
+     * @return future of the second request
+     */
+    private static <T> CompletableFuture<T> assertSupersededRequest(
+            Function<OpenAPIConverterService, CompletableFuture<T>> request) throws Exception {
+        Package currentPackage = BuildProject.load(RES_DIR).currentPackage();
+        SyntaxTree syntaxTree = getDocument(currentPackage.getDefaultModule(), "service.bal").syntaxTree();
+        SemanticModel semanticModel = currentPackage.getCompilation()
+                .getSemanticModel(currentPackage.getDefaultModule().moduleId());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch firstReleased = new CountDownLatch(1);
+        AtomicInteger semanticModelCount = new AtomicInteger();
+        // the first request waits on the semantic model until the second request has been sent
+        WorkspaceManager workspaceManager = (WorkspaceManager) Proxy.newProxyInstance(
+                WorkspaceManager.class.getClassLoader(), new Class<?>[]{WorkspaceManager.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "syntaxTree":
+                            return Optional.of(syntaxTree);
+                        case "semanticModel":
+                            if (semanticModelCount.incrementAndGet() == 1) {
+                                firstStarted.countDown();
+                                Assert.assertTrue(firstReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                            }
+                            return Optional.of(semanticModel);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        OpenAPIConverterService converterService = new OpenAPIConverterService(workspaceManager);
+
+        CompletableFuture<T> first = request.apply(converterService);
+        Assert.assertTrue(firstStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<T> second = request.apply(converterService);
+        Assert.assertTrue(first.isCancelled());
+        firstReleased.countDown();
+
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertTrue(first.isCancelled());
+        Assert.assertThrows(CancellationException.class, first::join);
+        Assert.assertEquals(semanticModelCount.get(), 2);
+        return second;
+    }
+
+    private static Document getDocument(Module module, String name) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(name)) {
+                return document;
+            }
+        }
+        throw new IllegalArgumentException("No document named " + name);
+    }
+}
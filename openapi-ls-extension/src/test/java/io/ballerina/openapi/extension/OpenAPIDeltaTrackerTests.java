@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+/**
+ * Tests the revisions kept by the {@code OpenAPIDeltaTracker}.
+ */
+public class OpenAPIDeltaTrackerTests {
+
+    @Test(description = "Test a known revision returns a patch and an unknown one returns the full content")
+    public void createDelta() {
+        OpenAPIDeltaTracker deltaTracker = new OpenAPIDeltaTracker();
+        Path filePath = Paths.get("service.bal");
+        OpenAPIDeltaResponse first = deltaTracker.createDelta(filePath, null, Collections.emptyList());
+        Assert.assertNotNull(first.getContent());
+        Assert.assertNull(first.getPatch());
+
+        OpenAPIDeltaResponse second = deltaTracker.createDelta(filePath, first.getRevision(),
+                Collections.emptyList());
+        Assert.assertEquals(second.getRevision(), first.getRevision());
+        Assert.assertEquals(second.getBaseRevision(), first.getRevision());
+        Assert.assertTrue(second.getPatch().isEmpty());
+        Assert.assertNull(second.getContent());
+
+        OpenAPIDeltaResponse unknown = deltaTracker.createDelta(filePath, "unknown", Collections.emptyList());
+        Assert.assertNotNull(unknown.getContent());
+        Assert.assertNull(unknown.getBaseRevision());
+    }
+
+    @Test(description = "Test the revisions of the least recently requested document are evicted")
+    public void evictLeastRecentlyRequestedDocument() {
+        OpenAPIDeltaTracker deltaTracker = new OpenAPIDeltaTracker();
+        Path firstPath = Paths.get("first.bal");
+        Path secondPath = Paths.get("second.bal");
+        String firstRevision = deltaTracker.createDelta(firstPath, null, Collections.emptyList()).getRevision();
+        String secondRevision = deltaTracker.createDelta(secondPath, null, Collections.emptyList()).getRevision();
+        // requesting the first document again makes the second one the least recently requested
+        deltaTracker.createDelta(firstPath, firstRevision, Collections.emptyList());
+        for (int index = 0; index < OpenAPIDeltaTracker.MAX_DOCUMENTS - 1; index++) {
+            deltaTracker.createDelta(Paths.get("service" + index + ".bal"), null, Collections.emptyList());
+        }
+
+        OpenAPIDeltaResponse first = deltaTracker.createDelta(firstPath, firstRevision, Collections.emptyList());
+        Assert.assertEquals(first.getBaseRevision(), firstRevision);
+        OpenAPIDeltaResponse second = deltaTracker.createDelta(secondPath, secondRevision, Collections.emptyList());
+        Assert.assertNull(second.getBaseRevision());
+        Assert.assertNotNull(second.getContent());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.service.OASResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Tests the {@code OpenAPIServiceCache} reuses the results of the services whose sources did not change.
+ */
+public class OpenAPIServiceCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/service_cache").toAbsolutePath();
+    private static final Path SERVICE_PATH = RES_DIR.resolve("service.bal");
+
+    @Test(description = "Test the results are reused when the document and the module are unchanged")
+    public void generateCachedResults() {
+        Package currentPackage = BuildProject.load(RES_DIR).currentPackage();
+        OpenAPIServiceCache serviceCache = new OpenAPIServiceCache();
+        SyntaxTree syntaxTree = getDocument(currentPackage.getDefaultModule(), "service.bal").syntaxTree();
+        SemanticModel semanticModel = getSemanticModel(currentPackage);
+        List<OASResult> results = serviceCache.generateOAS3Definition(SERVICE_PATH, syntaxTree, semanticModel,
+                () -> false);
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertTrue(results.get(0).getOpenAPI().isPresent());
+        Assert.assertTrue(results.get(1).getOpenAPI().isPresent());
+        Assert.assertSame(serviceCache.generateOAS3Definition(SERVICE_PATH, syntaxTree, semanticModel, () -> false),
+                results);
+    }
+
+    @Test(description = "Test only the service reaching a type changed in another document is generated again")
+    public void generateResultsOfChangedType() {
+        Package currentPackage = BuildProject.load(RES_DIR).currentPackage();
+        OpenAPIServiceCache serviceCache = new OpenAPIServiceCache();
+        List<OASResult> results = generate(serviceCache, currentPackage);
+
+        Package modifiedPackage = getDocument(currentPackage.getDefaultModule(), "types.bal").modify()
+                .withContent(String.join("\n",
+                        "# A pet of the store.",
+                        "public type Pet record {",
+                        "    # id of the pet",
+                        "    int id;",
+                        "    # name of the pet",
+                        "    string name;",
+                        "    # tag of the pet",
+                        "    string tag?;",
+                        "};"))
+                .apply();
+        List<OASResult> modifiedResults = generate(serviceCache, modifiedPackage);
+        Assert.assertNotSame(modifiedResults, results);
+        Assert.assertNotSame(modifiedResults.get(0), results.get(0));
+        Assert.assertSame(modifiedResults.get(1), results.get(1));
+        OpenAPI openAPI = modifiedResults.get(0).getOpenAPI().orElseThrow();
+        Assert.assertTrue(openAPI.getComponents().getSchemas().get("Pet").getProperties().containsKey("tag"));
+    }
+
+    @Test(description = "Test the results of a module with errors are not cached")
+    public void generateResultsOfErroneousModule() {
+        Package currentPackage = BuildProject.load(RES_DIR).currentPackage();
+        Package erroneousPackage = getDocument(currentPackage.getDefaultModule(), "types.bal").modify()
+                .withContent("public type Pet record { int id; Unknown name; };")
+                .apply();
+        OpenAPIServiceCache serviceCache = new OpenAPIServiceCache();
+        List<OASResult> results = generate(serviceCache, erroneousPackage);
+        Assert.assertNotSame(generate(serviceCache, erroneousPackage), results);
+    }
+
+    private static List<OASResult> generate(OpenAPIServiceCache serviceCache, Package currentPackage) {
+        return serviceCache.generateOAS3Definition(SERVICE_PATH,
+                getDocument(currentPackage.getDefaultModule(), "service.bal").syntaxTree(),
+                getSemanticModel(currentPackage), () -> false);
+    }
+
+    private static SemanticModel getSemanticModel(Package currentPackage) {
+        return currentPackage.getCompilation().getSemanticModel(currentPackage.getDefaultModule().moduleId());
+    }
+
+    private static Document getDocument(Module module, String name) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(name)) {
+                return document;
+            }
+        }
+        throw new IllegalArgumentException("No document named " + name);
+    }
+}
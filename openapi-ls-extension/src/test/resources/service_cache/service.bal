@@ -0,0 +1,15 @@
+import ballerina/http;
+
+listener http:Listener ep = new (9090);
+
+service /pets on ep {
+    resource function get pets/[int id]() returns Pet {
+        return {id: id, name: "Tom"};
+    }
+}
+
+service /greeting on ep {
+    resource function get .() returns string {
+        return "Hello, World!";
+    }
+}
@@ -0,0 +1,7 @@
+# A pet of the store.
+public type Pet record {
+    # id of the pet
+    int id;
+    # name of the pet
+    string name;
+};
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * {@code OpenAPIContractCache} keeps the parsed OpenAPI contracts shared among the service validations of the
+ * process, so that an unchanged contract is not read and resolved again on every compilation.
+ * <p>
+ * Entries are keyed by the canonical contract path and are revalidated against the file modified time, size and
+ * content hash before being reused. A contract which refers to other documents is not cached, since the referenced
+ * documents are not revalidated. The least recently used entry is evicted once the cache is full.
+ */
+public final class OpenAPIContractCache {
+    private static final int MAX_ENTRIES = 32;
+    // a `$ref` in YAML or JSON to another document, the part of the reference before `#` is captured
+    private static final Pattern EXTERNAL_REF_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    private final Map<Path, CachedContract> contracts;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private OpenAPIContractCache() {
+        this.contracts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, CachedContract> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    public static OpenAPIContractCache getCache() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Return the parsed contract for the given path, parsing it only when it is not cached or the file has changed
+     * since it was cached.
+     *
+     * @param contractPath  path of the OpenAPI contract
+     * @return {@link CachedContract} with the parsed model and its path summaries
+     * @throws OpenApiValidatorException when the contract is invalid
+     * @throws IOException when the contract can not be read
+     */
+    public CachedContract getContract(Path contractPath) throws OpenApiValidatorException, IOException {
+        Path canonicalPath = contractPath.toRealPath();
+        long lastModified = Files.getLastModifiedTime(canonicalPath).toMillis();
+        long size = Files.size(canonicalPath);
+        CachedContract cached;
+        synchronized (this.contracts) {
+            cached = this.contracts.get(canonicalPath);
+        }
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            this.hitCount.incrementAndGet();
+            return cached;
+        }
+        byte[] content = Files.readAllBytes(canonicalPath);
+        if (hasExternalReference(content)) {
+            // The referenced documents are resolved into the parsed model but are not part of the fingerprint, hence
+            // such a contract is parsed on every call rather than served stale after a referenced file changes.
+            remove(canonicalPath);
+            this.missCount.incrementAndGet();
+            OpenAPI openAPI = ServiceValidator.parseOpenAPIFile(canonicalPath.toString());
+            return new CachedContract(openAPI, ResourceWithOperation.summarizeOpenAPI(openAPI), lastModified,
+                    content.length, hash(content));
+        }
+        byte[] contentHash = hash(content);
+        if (cached != null && Arrays.equals(cached.contentHash, contentHash)) {
+            // Touched but not modified, keep the parsed model and refresh the file attributes.
+            CachedContract refreshed = new CachedContract(cached.openAPI, cached.pathSummaries, lastModified,
+                    content.length, contentHash);
+            put(canonicalPath, refreshed);
+            this.hitCount.incrementAndGet();
+            return refreshed;
+        }
+        this.missCount.incrementAndGet();
+        OpenAPI openAPI = ServiceValidator.parseOpenAPIFile(canonicalPath.toString());
+        CachedContract contract = new CachedContract(openAPI, ResourceWithOperation.summarizeOpenAPI(openAPI),
+                lastModified, content.length, contentHash);
+        put(canonicalPath, contract);
+        return contract;
+    }
+
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    public int size() {
+        synchronized (this.contracts) {
+            return this.contracts.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (this.contracts) {
+            this.contracts.clear();
+        }
+        this.hitCount.set(0);
+        this.missCount.set(0);
+    }
+
+    private void put(Path canonicalPath, CachedContract contract) {
+        synchronized (this.contracts) {
+            this.contracts.put(canonicalPath, contract);
+        }
+    }
+
+    private void remove(Path canonicalPath) {
+        synchronized (this.contracts) {
+            this.contracts.remove(canonicalPath);
+        }
+    }
+
+    private static boolean hasExternalReference(byte[] content) {
+        return EXTERNAL_REF_PATTERN.matcher(new String(content, StandardCharsets.UTF_8)).find();
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256, fall back to the raw content if it is ever missing.
+            return content;
+        }
+    }
+
+    /**
+     * Holds the cache, which is created on the first use without synchronizing the later calls.
+     */
+    private static final class Holder {
+        private static final OpenAPIContractCache INSTANCE = new OpenAPIContractCache();
+    }
+
+    /**
+     * Parsed OpenAPI contract along with the path summaries derived from it. The cached model is shared among
+     * validations and must not be modified.
+     */
+    public static final class CachedContract {
+        private final OpenAPI openAPI;
+        private final List<OpenAPIPathSummary> pathSummaries;
+        private final long lastModified;
+        private final long size;
+        private final byte[] contentHash;
+
+        private CachedContract(OpenAPI openAPI, List<OpenAPIPathSummary> pathSummaries, long lastModified,
+                               long size, byte[] contentHash) {
+            this.openAPI = openAPI;
+            this.pathSummaries = Collections.unmodifiableList(pathSummaries);
+            this.lastModified = lastModified;
+            this.size = size;
+            this.contentHash = contentHash;
+        }
+
+        public OpenAPI getOpenAPI() {
+            return this.openAPI;
+        }
+
+        /**
+         * Return a copy of the path summaries which the caller is free to filter.
+         *
+         * @return list of {@link OpenAPIPathSummary}
+         */
+        public List<OpenAPIPathSummary> getPathSummaries() {
+            List<OpenAPIPathSummary> summaries = new ArrayList<>(this.pathSummaries.size());
+            for (OpenAPIPathSummary summary : this.pathSummaries) {
+                summaries.add(new OpenAPIPathSummary(summary));
+            }
+            return summaries;
+        }
+    }
+}
@@ -42,6 +42,17 @@ public class OpenAPIPathSummary {
         this.path = null;
     }
 
+    /**
+     * Create a copy of the given summary which can be filtered without affecting the original.
+     *
+     * @param summary summary to copy
+     */
+    public OpenAPIPathSummary(OpenAPIPathSummary summary) {
+        this.availableOperations = new ArrayList<>(summary.availableOperations);
+        this.operations = new HashMap<>(summary.operations);
+        this.path = summary.path;
+    }
+
     public String getPath() {
         return path;
     }
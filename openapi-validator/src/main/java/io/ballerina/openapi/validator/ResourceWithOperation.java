@@ -52,11 +52,22 @@ public class ResourceWithOperation {
     public static List<OpenAPIPathSummary> filterOpenapi(OpenAPI openApi,
                                                          Filters filters) {
 
+        return filterOpenapi(ResourceWithOperation.summarizeOpenAPI(openApi), filters);
+    }
+
+    /**
+     * Filter the operations of the given path summaries according to the given filters.
+     * @param openAPIPathSummaries  summaries of the contract paths, filtered in place
+     * @param filters               Filter Object
+     * @return                      List of OpenApiPathSummary
+     */
+    public static List<OpenAPIPathSummary> filterOpenapi(List<OpenAPIPathSummary> openAPIPathSummaries,
+                                                         Filters filters) {
+
         boolean tagFilteringEnabled = filters.getTag().size() > 0;
         boolean operationFilteringEnabled = filters.getOperation().size() > 0;
         boolean excludeTagsFilteringEnabled = filters.getExcludeTag().size() > 0;
         boolean excludeOperationFilteringEnable = filters.getExcludeOperation().size() > 0;
-        List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.summarizeOpenAPI(openApi);
         // Check based on the method and path filters
         Iterator<OpenAPIPathSummary> openAPIIter = openAPIPathSummaries.iterator();
         while (openAPIIter.hasNext()) {
@@ -203,35 +214,22 @@ public class ResourceWithOperation {
 
         List<OpenapiServiceValidationError> operationsValidationErrors = new ArrayList<>();
         for (OpenAPIPathSummary openAPIPathSummary: openAPIPathSummaries) {
-            boolean isPathExit = false;
-
-            for (Map.Entry<String, ResourcePathSummary> resourcePathSummary: resourcePathSummaries.entrySet()) {
-                if (openAPIPathSummary.getPath().equals(resourcePathSummary.getKey())) {
-                    isPathExit = true;
-                    for (String method : openAPIPathSummary.getAvailableOperations()) {
-                        boolean isMethodExit = false;
-                        Map<String, ResourceMethod> methods = resourcePathSummary.getValue().getMethods();
-                        for (Map.Entry<String, ResourceMethod> resourceMethod: methods.entrySet()) {
-                            if (method.equals(resourceMethod.getKey())) {
-                                isMethodExit = true;
-                                break;
-                            }
-                        }
-                        if (!isMethodExit) {
-                            OpenapiServiceValidationError openapiServiceValidationError =
-                                    new OpenapiServiceValidationError(method, openAPIPathSummary.getPath(),
-                                            openAPIPathSummary.getOperations().get(method).getTags(),
-                                            openAPIPathSummary);
-                            operationsValidationErrors.add(openapiServiceValidationError);
-                        }
-                    }
-                    break;
-                }
-            }
-            if (!isPathExit) {
+            ResourcePathSummary resourcePathSummary = resourcePathSummaries.get(openAPIPathSummary.getPath());
+            if (resourcePathSummary == null) {
                 OpenapiServiceValidationError openapiServiceValidationError = new OpenapiServiceValidationError(
                         null, openAPIPathSummary.getPath(), null, openAPIPathSummary);
                 operationsValidationErrors.add(openapiServiceValidationError);
+                continue;
+            }
+            Map<String, ResourceMethod> methods = resourcePathSummary.getMethods();
+            for (String method : openAPIPathSummary.getAvailableOperations()) {
+                if (!methods.containsKey(method)) {
+                    OpenapiServiceValidationError openapiServiceValidationError =
+                            new OpenapiServiceValidationError(method, openAPIPathSummary.getPath(),
+                                    openAPIPathSummary.getOperations().get(method).getTags(),
+                                    openAPIPathSummary);
+                    operationsValidationErrors.add(openapiServiceValidationError);
+                }
             }
         }
         return operationsValidationErrors;
@@ -240,40 +238,44 @@ public class ResourceWithOperation {
     public static List<ResourceValidationError> checkResourceHasOperation(
             List<OpenAPIPathSummary> openAPIPathSummaries, Map<String, ResourcePathSummary> resourcePathSummaries) {
         List<ResourceValidationError> resourceValidationErrors = new ArrayList<>();
+        Map<String, OpenAPIPathSummary> openAPIPathIndex = indexOpenAPIPaths(openAPIPathSummaries);
         for (Map.Entry<String, ResourcePathSummary> resourcePathSummary: resourcePathSummaries.entrySet()) {
-            boolean isResourceExit = false;
-            for (OpenAPIPathSummary openAPIPathSummary: openAPIPathSummaries) {
-                if (resourcePathSummary.getKey().equals(openAPIPathSummary.getPath())) {
-                    isResourceExit = true;
-                    Map<String, ResourceMethod> methods = resourcePathSummary.getValue().getMethods();
-                    for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
-                        boolean isMethodExit = false;
-                        for (String operation: openAPIPathSummary.getAvailableOperations()) {
-                            if (method.getKey().equals(operation)) {
-                                isMethodExit = true;
-                                break;
-                            }
-                        }
-                        if (!isMethodExit) {
-                            ResourceValidationError resourceValidationError =
-                                    new ResourceValidationError(method.getValue().getMethodPosition(),
-                                            method.getKey(), resourcePathSummary.getKey());
-                            resourceValidationErrors.add(resourceValidationError);
-                        }
-                    }
-                    break;
-                }
-            }
-            if (!isResourceExit) {
+            OpenAPIPathSummary openAPIPathSummary = openAPIPathIndex.get(resourcePathSummary.getKey());
+            if (openAPIPathSummary == null) {
                 ResourceValidationError resourceValidationError =
                         new ResourceValidationError(resourcePathSummary.getValue().getPathPosition(), null,
                                 resourcePathSummary.getKey());
                 resourceValidationErrors.add(resourceValidationError);
+                continue;
+            }
+            Map<String, ResourceMethod> methods = resourcePathSummary.getValue().getMethods();
+            for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
+                if (!openAPIPathSummary.getAvailableOperations().contains(method.getKey())) {
+                    ResourceValidationError resourceValidationError =
+                            new ResourceValidationError(method.getValue().getMethodPosition(),
+                                    method.getKey(), resourcePathSummary.getKey());
+                    resourceValidationErrors.add(resourceValidationError);
+                }
             }
         }
         return resourceValidationErrors;
     }
 
+    /**
+     * Index the given OpenAPI path summaries by their templated path, so that a resource path resolves to its
+     * contract path with a single lookup instead of a scan over all the contract paths. When a path is repeated
+     * the first summary wins.
+     * @param openAPIPathSummaries  summaries of the contract paths
+     * @return map of path to {@link OpenAPIPathSummary}
+     */
+    public static Map<String, OpenAPIPathSummary> indexOpenAPIPaths(List<OpenAPIPathSummary> openAPIPathSummaries) {
+        Map<String, OpenAPIPathSummary> openAPIPathIndex = new HashMap<>();
+        for (OpenAPIPathSummary openAPIPathSummary: openAPIPathSummaries) {
+            openAPIPathIndex.putIfAbsent(openAPIPathSummary.getPath(), openAPIPathSummary);
+        }
+        return openAPIPathIndex;
+    }
+
     /**
      * Extract the details to be validated from the resource.
      * @param functions         documented functions
@@ -352,7 +354,7 @@ public class ResourceWithOperation {
      * @param contract                openAPI contract
      * @return List of summarized OpenAPIPathSummary
      */
-    private static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract) {
+    static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract) {
         List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>();
         io.swagger.v3.oas.models.Paths paths = contract.getPaths();
         for (Map.Entry pathItem : paths.entrySet()) {
@@ -408,23 +410,24 @@ public class ResourceWithOperation {
     public static List<OpenAPIPathSummary> removeUndocumentedPath(List<OpenAPIPathSummary> openAPISummaries,
                                                                   List<OpenapiServiceValidationError>
                                                                           missingPathInResource) {
-        if (!openAPISummaries.isEmpty()) {
+        if (!openAPISummaries.isEmpty() && !missingPathInResource.isEmpty()) {
+            Map<String, List<OpenapiServiceValidationError>> errorsByPath = new HashMap<>();
+            for (OpenapiServiceValidationError error: missingPathInResource) {
+                errorsByPath.computeIfAbsent(error.getServicePath(), path -> new ArrayList<>()).add(error);
+            }
             Iterator<OpenAPIPathSummary> openAPIPathIterator = openAPISummaries.iterator();
             while (openAPIPathIterator.hasNext()) {
                 OpenAPIPathSummary openAPIPathSummary = openAPIPathIterator.next();
-                if (!missingPathInResource.isEmpty()) {
-                    for (OpenapiServiceValidationError error: missingPathInResource) {
-                        if (error.getServicePath().equals(openAPIPathSummary.getPath())) {
-                            if ((error.getServiceOperation() != null) &&
-                                    (!openAPIPathSummary.getOperations().isEmpty())) {
-                                Map<String, Operation> operationsMap = openAPIPathSummary.getOperations();
-                                operationsMap.entrySet().removeIf(operationMap -> operationMap.getKey()
-                                        .equals(error.getServiceOperation()));
-                            } else if (error.getServiceOperation() == null) {
-                                openAPIPathIterator.remove();
-                            }
-                        }
+                List<OpenapiServiceValidationError> errors = errorsByPath.get(openAPIPathSummary.getPath());
+                if (errors == null) {
+                    continue;
+                }
+                for (OpenapiServiceValidationError error: errors) {
+                    if (error.getServiceOperation() == null) {
+                        openAPIPathIterator.remove();
+                        break;
                     }
+                    openAPIPathSummary.getOperations().remove(error.getServiceOperation());
                 }
             }
         }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable outcome of validating a single service declaration against its OpenAPI contract.
+ */
+public final class ServiceValidationResult {
+    private final List<Diagnostic> diagnostics;
+
+    ServiceValidationResult(List<Diagnostic> diagnostics) {
+        this.diagnostics = Collections.unmodifiableList(diagnostics);
+    }
+
+    public List<Diagnostic> getDiagnostics() {
+        return this.diagnostics;
+    }
+}
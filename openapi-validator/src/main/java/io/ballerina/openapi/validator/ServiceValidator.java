@@ -26,13 +26,11 @@ import io.ballerina.compiler.syntax.tree.ListConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.validator.error.MissingFieldInBallerinaType;
 import io.ballerina.openapi.validator.error.MissingFieldInJsonSchema;
@@ -67,26 +65,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static io.ballerina.openapi.validator.ValidatorErrorCode.BAL_OPENAPI_VALIDATOR_0018;
 import static io.ballerina.openapi.validator.ValidatorErrorCode.BAL_OPENAPI_VALIDATOR_0019;
-import static io.ballerina.openapi.validator.ValidatorErrorCode.BAL_OPENAPI_VALIDATOR_0020;
 
 /**
  * This model used to filter and validate all the operations according to the given filter and filter the service
  * resource in the resource file.
  */
 public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    private static OpenAPI openAPI;
-    private static List<Diagnostic> validations = new ArrayList<>();
-    private Location location;
 
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
-        List<FunctionDefinitionNode> functions = new ArrayList<>();
-        DiagnosticSeverity kind = DiagnosticSeverity.ERROR;
-        Filters filters = new Filters(kind);
-        SemanticModel semanticModel = syntaxNodeAnalysisContext.semanticModel();
-        SyntaxTree syntaxTree = syntaxNodeAnalysisContext.syntaxTree();
+        ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) syntaxNodeAnalysisContext.node();
 
         // Generate ballerina file path
         Package aPackage = syntaxNodeAnalysisContext.currentPackage();
@@ -94,177 +83,175 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
         Optional<Path> path = aPackage.project().documentPath(documentId);
         Path ballerinaFilePath = path.orElseThrow();
 
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        for (Node node : modulePartNode.members()) {
-            SyntaxKind syntaxKind = node.kind();
-            // Load a service declarations for the path part in the yaml spec
-            if (syntaxKind.equals(SyntaxKind.SERVICE_DECLARATION)) {
-                ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) node;
-                location = serviceDeclarationNode.location();
-                // Check annotation is available
-                kind = getDiagnosticFromServiceNode(functions, kind, filters, semanticModel, syntaxTree,
-                        ballerinaFilePath, serviceDeclarationNode);
-            }
-        }
-        if (!validations.isEmpty()) {
-            for (Diagnostic diagnostic : validations) {
-                syntaxNodeAnalysisContext.reportDiagnostic(diagnostic);
-            }
+        ServiceValidationResult result = validateService(serviceDeclarationNode,
+                syntaxNodeAnalysisContext.semanticModel(), syntaxNodeAnalysisContext.syntaxTree(), ballerinaFilePath);
+        for (Diagnostic diagnostic : result.getDiagnostics()) {
+            syntaxNodeAnalysisContext.reportDiagnostic(diagnostic);
         }
     }
 
-    //Method for getting diagnostic using serviceNode.
-    private DiagnosticSeverity getDiagnosticFromServiceNode(List<FunctionDefinitionNode> functions,
-                                                            DiagnosticSeverity kind, Filters filters,
-                                                            SemanticModel semanticModel, SyntaxTree syntaxTree,
-                                                            Path ballerinaFilePath,
-                                                            ServiceDeclarationNode serviceDeclarationNode) {
+    /**
+     * Validate the given service declaration against the OpenAPI contract in its {@code openapi:ServiceInfo}
+     * annotation. All the state of a validation is local to the call, hence services can be validated concurrently.
+     *
+     * @param serviceDeclarationNode    service to be validated
+     * @param semanticModel             semantic model of the module
+     * @param syntaxTree                syntax tree of the document
+     * @param ballerinaFilePath         path of the document, used to resolve relative contract paths
+     * @return {@link ServiceValidationResult} with the diagnostics of the service
+     */
+    public static ServiceValidationResult validateService(ServiceDeclarationNode serviceDeclarationNode,
+                                                          SemanticModel semanticModel, SyntaxTree syntaxTree,
+                                                          Path ballerinaFilePath) {
 
+        List<Diagnostic> validations = new ArrayList<>();
         Optional<MetadataNode> metadata = serviceDeclarationNode.metadata();
-        MetadataNode openApi  = metadata.orElseThrow();
-        if (!openApi.annotations().isEmpty()) {
-            NodeList<AnnotationNode> annotations = openApi.annotations();
-            boolean isAnnotationExist = false;
-            for (AnnotationNode annotationNode: annotations) {
-                Node annotationRefNode = annotationNode.annotReference();
-                if (annotationRefNode.toString().trim().equals("openapi:ServiceInfo")) {
-                    Optional<MappingConstructorExpressionNode> mappingConstructorExpressionNode =
-                            annotationNode.annotValue();
-                    MappingConstructorExpressionNode exprNode = mappingConstructorExpressionNode.orElseThrow();
-                    SeparatedNodeList<MappingFieldNode> fields = exprNode.fields();
-                    //Filter annotation attributes
-                    if (!fields.isEmpty()) {
-                        isAnnotationExist = true;
-                        boolean isEmbed = (fields.size() == 1 &&
-                                (((SpecificFieldNode) fields.get(0)).fieldName().toString().trim().equals("embed")));
-                        if (!isEmbed) {
-                            try {
-                                kind = extractOpenAPIAnnotation(kind, filters, annotationNode, ballerinaFilePath);
-                                if (!validations.isEmpty()) {
-                                    // when the contract has empty string
-                                    for (Diagnostic diagnostic: validations) {
-                                        if (diagnostic.diagnosticInfo().code().equals(BAL_OPENAPI_VALIDATOR_0018) ||
-                                                diagnostic.diagnosticInfo().code().equals(BAL_OPENAPI_VALIDATOR_0020)) {
-                                            isAnnotationExist = false;
-                                        }
-                                    }
-                                }
-                            } catch (IOException e) {
-                                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(BAL_OPENAPI_VALIDATOR_0019,
-                                        e.getMessage(), DiagnosticSeverity.ERROR);
-                                Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo, location);
-                                validations.add(diagnostic);
+        if (metadata.isEmpty() || metadata.get().annotations().isEmpty()) {
+            return new ServiceValidationResult(validations);
+        }
+        Location location = serviceDeclarationNode.location();
+        Filters filters = new Filters(DiagnosticSeverity.ERROR);
+        OpenAPIContractCache.CachedContract contract = null;
+        NodeList<AnnotationNode> annotations = metadata.get().annotations();
+        boolean isAnnotationExist = false;
+        for (AnnotationNode annotationNode: annotations) {
+            Node annotationRefNode = annotationNode.annotReference();
+            if (annotationRefNode.toString().trim().equals("openapi:ServiceInfo")) {
+                Optional<MappingConstructorExpressionNode> mappingConstructorExpressionNode =
+                        annotationNode.annotValue();
+                MappingConstructorExpressionNode exprNode = mappingConstructorExpressionNode.orElseThrow();
+                SeparatedNodeList<MappingFieldNode> fields = exprNode.fields();
+                //Filter annotation attributes
+                if (!fields.isEmpty()) {
+                    isAnnotationExist = true;
+                    boolean isEmbed = (fields.size() == 1 &&
+                            (((SpecificFieldNode) fields.get(0)).fieldName().toString().trim().equals("embed")));
+                    if (!isEmbed) {
+                        try {
+                            // Contract is null when the contract path is empty, missing or invalid
+                            contract = extractOpenAPIAnnotation(filters, annotationNode, ballerinaFilePath,
+                                    validations);
+                            if (contract == null) {
                                 isAnnotationExist = false;
                             }
-                        } else {
+                        } catch (IOException e) {
+                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(BAL_OPENAPI_VALIDATOR_0019,
+                                    e.getMessage(), DiagnosticSeverity.ERROR);
+                            Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo, location);
+                            validations.add(diagnostic);
                             isAnnotationExist = false;
                         }
+                    } else {
+                        isAnnotationExist = false;
                     }
                 }
             }
-            if (isAnnotationExist) {
-                // Summaries functions
-                NodeList<Node> members = serviceDeclarationNode.members();
-                Iterator<Node> iterator = members.iterator();
-                while (iterator.hasNext()) {
-                    Node next = iterator.next();
-                    if (next instanceof FunctionDefinitionNode) {
-                        functions.add((FunctionDefinitionNode) next);
-                    }
+        }
+        if (isAnnotationExist) {
+            DiagnosticSeverity kind = filters.getKind();
+            List<FunctionDefinitionNode> functions = new ArrayList<>();
+            // Summaries functions
+            NodeList<Node> members = serviceDeclarationNode.members();
+            Iterator<Node> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                Node next = iterator.next();
+                if (next instanceof FunctionDefinitionNode) {
+                    functions.add((FunctionDefinitionNode) next);
                 }
-                // Make resourcePath summary
-                Map<String, ResourcePathSummary> resourcePathMap = ResourceWithOperation.summarizeResources(functions);
-                //  Filter openApi operation according to given filters
-                List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.filterOpenapi(openAPI, filters);
-
-                //  Check all the filtered operations are available at the service file
-                List<OpenapiServiceValidationError> openApiMissingServiceMethod =
-                        ResourceWithOperation.checkOperationsHasFunctions(openAPIPathSummaries, resourcePathMap);
-
-                //  Generate errors for missing resource in service file
-                if (!openApiMissingServiceMethod.isEmpty()) {
-                    for (OpenapiServiceValidationError openApiMissingError: openApiMissingServiceMethod) {
-                        if (openApiMissingError.getServiceOperation() == null) {
-                            String[] error = ErrorMessages.unimplementedOpenAPIPath(openApiMissingError.
-                                    getServicePath());
-                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(error[0], error[1], kind);
-                            Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
-                                    serviceDeclarationNode.location());
-                            validations.add(diagnostic);
-                        } else {
-                            String[] error = ErrorMessages.unimplementedOpenAPIOperationsForPath(openApiMissingError.
-                                    getServiceOperation(), openApiMissingError.getServicePath());
-                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(error[0], error[1], kind);
-                            Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
-                                    serviceDeclarationNode.location());
-                            validations.add(diagnostic);
-                        }
+            }
+            // Make resourcePath summary
+            Map<String, ResourcePathSummary> resourcePathMap = ResourceWithOperation.summarizeResources(functions);
+            //  Filter openApi operation according to given filters
+            List<OpenAPIPathSummary> openAPIPathSummaries = ResourceWithOperation.filterOpenapi(
+                    contract.getPathSummaries(), filters);
+
+            //  Check all the filtered operations are available at the service file
+            List<OpenapiServiceValidationError> openApiMissingServiceMethod =
+                    ResourceWithOperation.checkOperationsHasFunctions(openAPIPathSummaries, resourcePathMap);
+
+            //  Generate errors for missing resource in service file
+            if (!openApiMissingServiceMethod.isEmpty()) {
+                for (OpenapiServiceValidationError openApiMissingError: openApiMissingServiceMethod) {
+                    if (openApiMissingError.getServiceOperation() == null) {
+                        String[] error = ErrorMessages.unimplementedOpenAPIPath(openApiMissingError.
+                                getServicePath());
+                        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(error[0], error[1], kind);
+                        Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                serviceDeclarationNode.location());
+                        validations.add(diagnostic);
+                    } else {
+                        String[] error = ErrorMessages.unimplementedOpenAPIOperationsForPath(openApiMissingError.
+                                getServiceOperation(), openApiMissingError.getServicePath());
+                        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(error[0], error[1], kind);
+                        Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                serviceDeclarationNode.location());
+                        validations.add(diagnostic);
                     }
-
-                    // Clean the undocumented openapi contract functions
-                    openAPIPathSummaries = ResourceWithOperation.removeUndocumentedPath(openAPIPathSummaries,
-                            openApiMissingServiceMethod);
                 }
-                // Check all the documented resource functions are in openapi contract
-                List<ResourceValidationError> resourceValidationErrors =
-                        ResourceWithOperation.checkResourceHasOperation(openAPIPathSummaries, resourcePathMap);
-                // Clean the undocumented resources from the list
-                if (!resourcePathMap.isEmpty()) {
-                    createListResourcePathSummary(resourceValidationErrors, resourcePathMap);
-                }
-                createListOperations(openAPIPathSummaries, resourcePathMap);
 
-                // Resource against to operation
-                resourcePathAgainstToOpenAPIPath(kind, resourcePathMap, openAPIPathSummaries, semanticModel,
-                        syntaxTree);
-                // Validate openApi operations against service resource in ballerina file
-                try {
-                    openAPIPathAgainstToBallerinaServicePath(kind, serviceDeclarationNode, resourcePathMap,
-                            openAPIPathSummaries, semanticModel, syntaxTree);
-                } catch (OpenApiValidatorException e) {
-                    DiagnosticInfo diagnosticInfo = new DiagnosticInfo(BAL_OPENAPI_VALIDATOR_0019,
-                            e.getMessage(), DiagnosticSeverity.ERROR);
-                    Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo
-                            , location);
-                    validations.add(diagnostic);
-                }
+                // Clean the undocumented openapi contract functions
+                openAPIPathSummaries = ResourceWithOperation.removeUndocumentedPath(openAPIPathSummaries,
+                        openApiMissingServiceMethod);
+            }
+            // Index the remaining contract paths once, resources resolve their operations through it
+            Map<String, OpenAPIPathSummary> openAPIPathIndex =
+                    ResourceWithOperation.indexOpenAPIPaths(openAPIPathSummaries);
+            // Check all the documented resource functions are in openapi contract
+            List<ResourceValidationError> resourceValidationErrors =
+                    ResourceWithOperation.checkResourceHasOperation(openAPIPathSummaries, resourcePathMap);
+            // Clean the undocumented resources from the list
+            if (!resourcePathMap.isEmpty()) {
+                createListResourcePathSummary(resourceValidationErrors, resourcePathMap);
+            }
+            createListOperations(openAPIPathIndex, resourcePathMap);
+
+            // Resource against to operation
+            resourcePathAgainstToOpenAPIPath(kind, resourcePathMap, openAPIPathIndex, semanticModel,
+                    syntaxTree, location, validations);
+            // Validate openApi operations against service resource in ballerina file
+            try {
+                openAPIPathAgainstToBallerinaServicePath(kind, serviceDeclarationNode, resourcePathMap,
+                        openAPIPathSummaries, semanticModel, syntaxTree, validations);
+            } catch (OpenApiValidatorException e) {
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(BAL_OPENAPI_VALIDATOR_0019,
+                        e.getMessage(), DiagnosticSeverity.ERROR);
+                Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo
+                        , location);
+                validations.add(diagnostic);
             }
         }
-        return kind;
+        return new ServiceValidationResult(validations);
     }
 
     //Method for validate summarised resource function path against to openapi operations paths.
-    private void resourcePathAgainstToOpenAPIPath(DiagnosticSeverity kind,
-                                                  Map<String, ResourcePathSummary> resourcePathMap,
-                                                  List<OpenAPIPathSummary> openAPIPathSummaries,
-                                                  SemanticModel semanticModel, SyntaxTree syntaxTree) {
+    private static void resourcePathAgainstToOpenAPIPath(DiagnosticSeverity kind,
+                                                         Map<String, ResourcePathSummary> resourcePathMap,
+                                                         Map<String, OpenAPIPathSummary> openAPIPathIndex,
+                                                         SemanticModel semanticModel, SyntaxTree syntaxTree,
+                                                         Location location, List<Diagnostic> validations) {
 
         for (Map.Entry<String, ResourcePathSummary> resourcePath: resourcePathMap.entrySet()) {
-            for (OpenAPIPathSummary openApiPath : openAPIPathSummaries) {
-                if ((resourcePath.getKey().equals(openApiPath.getPath())) &&
-                        (!resourcePath.getValue().getMethods().isEmpty())) {
-                    Map<String, ResourceMethod> resourceMethods = resourcePath.getValue().getMethods();
-                    for (Map.Entry<String, ResourceMethod> method: resourceMethods.entrySet()) {
-                        Map<String, Operation> operations = openApiPath.getOperations();
-                        for (Map.Entry<String, Operation> operation: operations.entrySet()) {
-                            if (method.getKey().equals(operation.getKey())) {
-                                List<ValidationError> postErrors = new ArrayList<>();
-                                try {
-                                    postErrors = ResourceValidator.validateResourceAgainstOperation(
-                                            operation.getValue(), method.getValue(), semanticModel, syntaxTree);
-                                } catch (OpenApiValidatorException e) {
-                                    DiagnosticInfo diagnosticInfo = new DiagnosticInfo(
-                                            BAL_OPENAPI_VALIDATOR_0019, e.getMessage(),
-                                            DiagnosticSeverity.ERROR);
-                                    Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo
-                                            , location);
-                                    validations.add(diagnostic);
-                                }
-                                generateDiagnosticMessage(kind, resourcePath.getValue(), method, postErrors);
-                            }
-                        }
-                    }
+            OpenAPIPathSummary openApiPath = openAPIPathIndex.get(resourcePath.getKey());
+            if (openApiPath == null || resourcePath.getValue().getMethods().isEmpty()) {
+                continue;
+            }
+            Map<String, ResourceMethod> resourceMethods = resourcePath.getValue().getMethods();
+            for (Map.Entry<String, ResourceMethod> method: resourceMethods.entrySet()) {
+                Operation operation = openApiPath.getOperations().get(method.getKey());
+                if (operation == null) {
+                    continue;
+                }
+                List<ValidationError> postErrors = new ArrayList<>();
+                try {
+                    postErrors = ResourceValidator.validateResourceAgainstOperation(operation, method.getValue(),
+                            semanticModel, syntaxTree);
+                } catch (OpenApiValidatorException e) {
+                    DiagnosticInfo diagnosticInfo = new DiagnosticInfo(BAL_OPENAPI_VALIDATOR_0019, e.getMessage(),
+                            DiagnosticSeverity.ERROR);
+                    Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo, location);
+                    validations.add(diagnostic);
                 }
+                generateDiagnosticMessage(kind, resourcePath.getValue(), method, postErrors, validations);
             }
         }
     }
@@ -274,61 +261,53 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                                                                  ServiceDeclarationNode serviceDeclarationNode,
                                                                  Map<String, ResourcePathSummary> resourcePathMap,
                                                                  List<OpenAPIPathSummary> openAPIPathSummaries,
-                                                                 SemanticModel semanticModel, SyntaxTree syntaxTree)
+                                                                 SemanticModel semanticModel, SyntaxTree syntaxTree,
+                                                                 List<Diagnostic> validations)
             throws OpenApiValidatorException {
 
         for (OpenAPIPathSummary openAPIPathSummary: openAPIPathSummaries) {
-            for (Map.Entry<String, ResourcePathSummary> resourcePathSummaryEntry: resourcePathMap.entrySet()) {
-                if (openAPIPathSummary.getPath().equals(resourcePathSummaryEntry.getKey()) && (!openAPIPathSummary.
-                        getOperations().isEmpty()) && (!resourcePathSummaryEntry.getValue().getMethods().isEmpty())) {
-                    Map<String, Operation> operations = openAPIPathSummary.getOperations();
-                    for (Map.Entry<String, Operation> operation : operations.entrySet()) {
-                        Map<String, ResourceMethod> methods = resourcePathSummaryEntry.getValue().getMethods();
-                        for (Map.Entry<String, ResourceMethod> method: methods.entrySet()) {
-                            if (operation.getKey().equals(method.getKey())) {
-                                List<ValidationError> errorList =
-                                        ResourceValidator.validateOperationAgainstResource(operation.getValue(),
-                                                method.getValue(), semanticModel, syntaxTree,
-                                                serviceDeclarationNode.location());
-                                if (!errorList.isEmpty()) {
-                                    for (ValidationError error: errorList) {
-                                        if (error instanceof MissingFieldInBallerinaType) {
-                                            String[] errorMsg = ErrorMessages.unimplementedFieldInOperation(
-                                                            error.getFieldName(), ((MissingFieldInBallerinaType) error)
-                                                                    .getRecordName(), operation.getKey(),
-                                                            openAPIPathSummary.getPath());
-                                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(errorMsg[0],
-                                                    errorMsg[1], kind);
-                                            Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo
-                                                    , serviceDeclarationNode.location());
-                                            validations.add(diagnostic);
-                                        } else if (!(error instanceof TypeMismatch) &&
-                                                (!(error instanceof MissingFieldInJsonSchema))) {
-
-                                            String[] errorMsg = ErrorMessages.unimplementedParameterForOperation(
-                                                    error.getFieldName(), operation.getKey(),
-                                                    openAPIPathSummary.getPath());
-
-                                            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(errorMsg[0],
-                                                    errorMsg[1], kind);
-                                            Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo
-                                                    , serviceDeclarationNode.location());
-                                            validations.add(diagnostic);
-                                        }
-                                    }
-                                }
-                            }
-                        }
+            ResourcePathSummary resourcePathSummary = resourcePathMap.get(openAPIPathSummary.getPath());
+            if (resourcePathSummary == null || openAPIPathSummary.getOperations().isEmpty() ||
+                    resourcePathSummary.getMethods().isEmpty()) {
+                continue;
+            }
+            Map<String, ResourceMethod> methods = resourcePathSummary.getMethods();
+            for (Map.Entry<String, Operation> operation : openAPIPathSummary.getOperations().entrySet()) {
+                ResourceMethod method = methods.get(operation.getKey());
+                if (method == null) {
+                    continue;
+                }
+                List<ValidationError> errorList = ResourceValidator.validateOperationAgainstResource(
+                        operation.getValue(), method, semanticModel, syntaxTree, serviceDeclarationNode.location());
+                for (ValidationError error: errorList) {
+                    if (error instanceof MissingFieldInBallerinaType) {
+                        String[] errorMsg = ErrorMessages.unimplementedFieldInOperation(error.getFieldName(),
+                                ((MissingFieldInBallerinaType) error).getRecordName(), operation.getKey(),
+                                openAPIPathSummary.getPath());
+                        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(errorMsg[0], errorMsg[1], kind);
+                        Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                serviceDeclarationNode.location());
+                        validations.add(diagnostic);
+                    } else if (!(error instanceof TypeMismatch) && (!(error instanceof MissingFieldInJsonSchema))) {
+                        String[] errorMsg = ErrorMessages.unimplementedParameterForOperation(error.getFieldName(),
+                                operation.getKey(), openAPIPathSummary.getPath());
+                        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(errorMsg[0], errorMsg[1], kind);
+                        Diagnostic diagnostic = DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                serviceDeclarationNode.location());
+                        validations.add(diagnostic);
                     }
                 }
             }
         }
     }
 
-    //Extract details from openapi annotation.
-    private static DiagnosticSeverity extractOpenAPIAnnotation(DiagnosticSeverity kind, Filters filters,
-                                                              AnnotationNode annotationNode, Path ballerinaFilePath)
+    //Extract details from openapi annotation and return the referred contract.
+    private static OpenAPIContractCache.CachedContract extractOpenAPIAnnotation(Filters filters,
+                                                                                AnnotationNode annotationNode,
+                                                                                Path ballerinaFilePath,
+                                                                                List<Diagnostic> validations)
             throws IOException {
+        OpenAPIContractCache.CachedContract contract = null;
         SeparatedNodeList<MappingFieldNode> fields = annotationNode.annotValue().orElseThrow().fields();
         for (MappingFieldNode fieldNode: fields) {
             if (fieldNode instanceof SpecificFieldNode) {
@@ -357,7 +336,7 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                     }
                     if (relativePath != null && Files.exists(relativePath)) {
                         try {
-                            openAPI = ServiceValidator.parseOpenAPIFile(relativePath.toString());
+                            contract = OpenAPIContractCache.getCache().getContract(relativePath);
                         } catch (OpenApiValidatorException e) {
                             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(
                                     BAL_OPENAPI_VALIDATOR_0019, e.getMessage(),
@@ -377,8 +356,7 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                 } else if (specificFieldNode.fieldName().toString().trim().equals("failOnErrors")) {
                     String failOnErrors = openAPIAnnotation.toString();
                     if (failOnErrors.trim().equals("false")) {
-                        kind = DiagnosticSeverity.WARNING;
-                        filters.setKind(kind);
+                        filters.setKind(DiagnosticSeverity.WARNING);
                     }
                 } else if (openAPIAnnotation instanceof ListConstructorExpressionNode) {
                     ListConstructorExpressionNode list = (ListConstructorExpressionNode) openAPIAnnotation;
@@ -398,7 +376,7 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
                 }
             }
         }
-        return kind;
+        return contract;
     }
 
     private static List<String> setFilters(ListConstructorExpressionNode list) {
@@ -414,42 +392,22 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
 
     /**
      * Fix the list with openAPIPathSummary by matching resources that documented for validating.
-     * @param openAPIPathSummaries      summary list with OpenAPI Path
+     * @param openAPIPathIndex          OpenAPI path summaries indexed by path
      * @param resourcePathSummaryList   summary list with resourcePath
      */
-    private static void createListOperations(List<OpenAPIPathSummary> openAPIPathSummaries,
+    private static void createListOperations(Map<String, OpenAPIPathSummary> openAPIPathIndex,
                                              Map<String, ResourcePathSummary> resourcePathSummaryList) {
 
         Iterator<Map.Entry<String, ResourcePathSummary>> resourcePathSummaryIterator = resourcePathSummaryList
                 .entrySet().iterator();
         while (resourcePathSummaryIterator.hasNext()) {
-            boolean isExit = false;
             ResourcePathSummary resourcePathSummary = resourcePathSummaryIterator.next().getValue();
-            for (OpenAPIPathSummary apiPathSummary: openAPIPathSummaries) {
-                isExit = true;
-                if (!(resourcePathSummary.getMethods().isEmpty()) && !(apiPathSummary.getOperations().isEmpty())
-                        && (resourcePathSummary.getPath().equals(apiPathSummary.getPath()))) {
-                    Iterator<Map.Entry<String, ResourceMethod>> methods =
-                            resourcePathSummary.getMethods().entrySet().iterator();
-                    while (methods.hasNext()) {
-                        boolean isMethodExit = false;
-                        Map.Entry<String, ResourceMethod> reMethods = methods.next();
-                        Map<String, Operation> operations = apiPathSummary.getOperations();
-                        for (Map.Entry<String, Operation> operation: operations.entrySet()) {
-                            if (reMethods.getKey().equals(operation.getKey())) {
-                                isMethodExit = true;
-                                break;
-                            }
-                        }
-                        if (!isMethodExit) {
-                            methods.remove();
-                        }
-                    }
-                }
-                break;
-            }
-            if (!isExit) {
+            OpenAPIPathSummary apiPathSummary = openAPIPathIndex.get(resourcePathSummary.getPath());
+            if (apiPathSummary == null) {
                 resourcePathSummaryIterator.remove();
+            } else if (!apiPathSummary.getOperations().isEmpty()) {
+                Map<String, Operation> operations = apiPathSummary.getOperations();
+                resourcePathSummary.getMethods().keySet().removeIf(method -> !operations.containsKey(method));
             }
         }
     }
@@ -463,23 +421,16 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
     private static void createListResourcePathSummary(List<ResourceValidationError> resourceMissingPathMethod,
                                                       Map<String, ResourcePathSummary> resourcePathSummaryList) {
 
-        Iterator<Map.Entry<String, ResourcePathSummary>>
-                resourcePSIterator = resourcePathSummaryList.entrySet().iterator();
-        while (resourcePSIterator.hasNext()) {
-            ResourcePathSummary resourcePathSummary = (ResourcePathSummary) resourcePSIterator.next().getValue();
-            if (!resourceMissingPathMethod.isEmpty()) {
-                for (ResourceValidationError resourceValidationError: resourceMissingPathMethod) {
-                    if (resourcePathSummary.getPath().equals(resourceValidationError.getResourcePath())) {
-                        if ((!resourcePathSummary.getMethods().isEmpty())
-                                && (resourceValidationError.getresourceMethod() != null)) {
-                            Map<String, ResourceMethod> resourceMethods = resourcePathSummary.getMethods();
-                            resourceMethods.entrySet().removeIf(resourceMethod -> resourceMethod.getKey()
-                                    .equals(resourceValidationError.getresourceMethod()));
-                        } else if (resourceValidationError.getresourceMethod() == null) {
-                            resourcePSIterator.remove();
-                        }
-                    }
-                }
+        for (ResourceValidationError resourceValidationError: resourceMissingPathMethod) {
+            ResourcePathSummary resourcePathSummary =
+                    resourcePathSummaryList.get(resourceValidationError.getResourcePath());
+            if (resourcePathSummary == null) {
+                continue;
+            }
+            if (resourceValidationError.getresourceMethod() == null) {
+                resourcePathSummaryList.remove(resourceValidationError.getResourcePath());
+            } else {
+                resourcePathSummary.getMethods().remove(resourceValidationError.getresourceMethod());
             }
         }
     }
@@ -490,28 +441,31 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
      * @param resourcePathSummary   current validate ResourcePath Object
      * @param method                validate method
      * @param postErrors            list of validationErrors
+     * @param validations           diagnostics of the service under validation
      */
     private static void generateDiagnosticMessage(DiagnosticSeverity kind,
-                                            ResourcePathSummary resourcePathSummary,
-                                            Map.Entry<String, ResourceMethod> method,
-                                                  List<ValidationError> postErrors) {
+                                                  ResourcePathSummary resourcePathSummary,
+                                                  Map.Entry<String, ResourceMethod> method,
+                                                  List<ValidationError> postErrors,
+                                                  List<Diagnostic> validations) {
 
         if (!postErrors.isEmpty()) {
             for (ValidationError postErr : postErrors) {
                 if (postErr instanceof TypeMismatch) {
-                    generateTypeMisMatchDiagnostic(kind, resourcePathSummary, method, postErr);
+                    generateTypeMisMatchDiagnostic(kind, resourcePathSummary, method, postErr, validations);
                 } else if (postErr instanceof MissingFieldInJsonSchema) {
                     generateMissingFieldInJsonSchemaDiagnostic(kind, resourcePathSummary, method,
-                            (MissingFieldInJsonSchema) postErr);
+                            (MissingFieldInJsonSchema) postErr, validations);
                 } else if (postErr instanceof OneOfTypeValidation) {
                     if (!(((OneOfTypeValidation) postErr).getBlockErrors()).isEmpty()) {
                         List<ValidationError> oneOfErrorlist = ((OneOfTypeValidation) postErr).getBlockErrors();
                         for (ValidationError oneOfValidation : oneOfErrorlist) {
                             if (oneOfValidation instanceof TypeMismatch) {
-                                generateTypeMisMatchDiagnostic(kind, resourcePathSummary, method, oneOfValidation);
+                                generateTypeMisMatchDiagnostic(kind, resourcePathSummary, method, oneOfValidation,
+                                        validations);
                             } else if (oneOfValidation instanceof MissingFieldInJsonSchema) {
                                 generateMissingFieldInJsonSchemaDiagnostic(kind, resourcePathSummary, method,
-                                        (MissingFieldInJsonSchema) oneOfValidation);
+                                        (MissingFieldInJsonSchema) oneOfValidation, validations);
                             }
                         }
                     }
@@ -530,7 +484,8 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
     private static void generateMissingFieldInJsonSchemaDiagnostic(DiagnosticSeverity kind,
                                                                    ResourcePathSummary resourcePathSummary,
                                                                    Map.Entry<String, ResourceMethod> method,
-                                                                   MissingFieldInJsonSchema postErr) {
+                                                                   MissingFieldInJsonSchema postErr,
+                                                                   List<Diagnostic> validations) {
 
         String[] error = ErrorMessages.undocumentedFieldInRecordParam(postErr.getFieldName(),
                         postErr.getRecordName(), method.getKey(), resourcePathSummary.getPath());
@@ -545,10 +500,12 @@ public class ServiceValidator implements AnalysisTask<SyntaxNodeAnalysisContext>
      * @param resourcePathSummary   current validating resourcePath
      * @param method                current validating method
      * @param postErr               TypeMisMatchError type validation error
+     * @param validations           diagnostics of the service under validation
      */
     private static void generateTypeMisMatchDiagnostic(DiagnosticSeverity kind,
-                                                 ResourcePathSummary resourcePathSummary,
-                                                 Map.Entry<String, ResourceMethod> method, ValidationError postErr) {
+                                                       ResourcePathSummary resourcePathSummary,
+                                                       Map.Entry<String, ResourceMethod> method,
+                                                       ValidationError postErr, List<Diagnostic> validations) {
 
         if (postErr instanceof TypeMismatch) {
             if (((TypeMismatch) postErr).getRecordName() != null) {
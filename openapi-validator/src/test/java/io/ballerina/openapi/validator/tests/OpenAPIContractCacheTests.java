@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.OpenAPIContractCache;
+import io.ballerina.openapi.validator.OpenApiValidatorException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Unit tests for the process wide OpenAPI contract cache.
+ */
+public class OpenAPIContractCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/project-based-tests/modules/contractValidation/")
+            .toAbsolutePath();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("openapi-contract-cache");
+        OpenAPIContractCache.getCache().clear();
+    }
+
+    @Test(description = "Unchanged contract is served from the cache")
+    public void testCacheHit() throws OpenApiValidatorException, IOException {
+        Path contractPath = copyContract("petstore.yaml");
+        OpenAPIContractCache cache = OpenAPIContractCache.getCache();
+        OpenAPIContractCache.CachedContract first = cache.getContract(contractPath);
+        OpenAPIContractCache.CachedContract second = cache.getContract(contractPath);
+        Assert.assertSame(second.getOpenAPI(), first.getOpenAPI());
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test(description = "Touched but unchanged contract is not parsed again")
+    public void testTouchedContract() throws OpenApiValidatorException, IOException {
+        Path contractPath = copyContract("petstore.yaml");
+        OpenAPIContractCache cache = OpenAPIContractCache.getCache();
+        OpenAPIContractCache.CachedContract first = cache.getContract(contractPath);
+        Files.setLastModifiedTime(contractPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(contractPath).toMillis() + 10000));
+        Assert.assertSame(cache.getContract(contractPath).getOpenAPI(), first.getOpenAPI());
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test(description = "Modified contract is parsed again")
+    public void testModifiedContract() throws OpenApiValidatorException, IOException {
+        Path contractPath = copyContract("petstore.yaml");
+        OpenAPIContractCache cache = OpenAPIContractCache.getCache();
+        OpenAPIContractCache.CachedContract first = cache.getContract(contractPath);
+        Files.copy(RES_DIR.resolve("swagger/valid/petstore02.yaml"), contractPath,
+                StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(contractPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(contractPath).toMillis() + 10000));
+        Assert.assertNotSame(cache.getContract(contractPath).getOpenAPI(), first.getOpenAPI());
+        Assert.assertEquals(cache.getMissCount(), 2);
+    }
+
+    @Test(description = "Filtering the returned path summaries does not affect the cached entry")
+    public void testPathSummaryIsolation() throws OpenApiValidatorException, IOException {
+        Path contractPath = copyContract("petstore.yaml");
+        OpenAPIContractCache cache = OpenAPIContractCache.getCache();
+        int pathCount = cache.getContract(contractPath).getPathSummaries().size();
+        cache.getContract(contractPath).getPathSummaries().clear();
+        cache.getContract(contractPath).getPathSummaries().get(0).getOperations().clear();
+        Assert.assertEquals(cache.getContract(contractPath).getPathSummaries().size(), pathCount);
+        Assert.assertFalse(cache.getContract(contractPath).getPathSummaries().get(0).getOperations().isEmpty());
+    }
+
+    @Test(description = "Contract referring to another document is parsed again after the document changes")
+    public void testContractWithExternalReference() throws OpenApiValidatorException, IOException {
+        Path schemaPath = tempDir.resolve("pet.yaml");
+        Files.writeString(schemaPath, "Pet:\n  type: object\n  properties:\n    id:\n      type: integer\n");
+        Path contractPath = tempDir.resolve("pets.yaml");
+        Files.writeString(contractPath, String.join("\n",
+                "openapi: 3.0.1",
+                "info:",
+                "  title: pets",
+                "  version: 1.0.0",
+                "paths:",
+                "  /pets:",
+                "    get:",
+                "      operationId: listPets",
+                "      responses:",
+                "        '200':",
+                "          description: A pet",
+                "          content:",
+                "            application/json:",
+                "              schema:",
+                "                $ref: '" + schemaPath.toUri() + "#/Pet'",
+                ""));
+        OpenAPIContractCache cache = OpenAPIContractCache.getCache();
+        OpenAPIContractCache.CachedContract first = cache.getContract(contractPath);
+        Files.writeString(schemaPath, "Pet:\n  type: object\n  properties:\n    name:\n      type: string\n");
+        OpenAPIContractCache.CachedContract second = cache.getContract(contractPath);
+        Assert.assertNotSame(second.getOpenAPI(), first.getOpenAPI());
+        Assert.assertTrue(second.getOpenAPI().getPaths().get("/pets").getGet().getResponses().get("200")
+                .getContent().get("application/json").getSchema().getProperties().containsKey("name"));
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        OpenAPIContractCache.getCache().clear();
+        File[] files = tempDir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(tempDir);
+    }
+
+    private Path copyContract(String name) throws IOException {
+        return Files.copy(RES_DIR.resolve("swagger/valid/" + name), tempDir.resolve(name));
+    }
+}
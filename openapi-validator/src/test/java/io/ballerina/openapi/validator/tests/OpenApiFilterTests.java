@@ -30,6 +30,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This unit tests for filterOpenApi function.
@@ -161,4 +162,17 @@ public class OpenApiFilterTests {
         excludeOperations.clear();
         excludeTags.clear();
     }
+
+    @Test(description = "Filtered paths are indexed by their templated path")
+    public void testOpenAPIPathIndex() throws OpenApiValidatorException, IOException {
+        Path contractPath = RES_DIR.resolve("swagger/valid/petstore.yaml");
+        api = ServiceValidator.parseOpenAPIFile(contractPath.toString());
+        Filters filter = new Filters(tags, excludeTags, operations, excludeOperations, DiagnosticSeverity.ERROR);
+        openAPIPathSummaries = ResourceWithOperation.filterOpenapi(api, filter);
+        Map<String, OpenAPIPathSummary> openAPIPathIndex = ResourceWithOperation.indexOpenAPIPaths(
+                openAPIPathSummaries);
+        Assert.assertEquals(openAPIPathIndex.size(), openAPIPathSummaries.size());
+        Assert.assertSame(openAPIPathIndex.get("/pets/{petId}"), openAPIPathSummaries.get(1));
+        Assert.assertNull(openAPIPathIndex.get("/pets/{id}"));
+    }
 }
@@ -15,8 +15,10 @@
  */
 package io.ballerina.openapi.validator.tests;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.validator.Constants;
 import io.ballerina.openapi.validator.Filters;
 import io.ballerina.openapi.validator.OpenAPIPathSummary;
@@ -24,6 +26,7 @@ import io.ballerina.openapi.validator.OpenApiValidatorException;
 import io.ballerina.openapi.validator.ResourcePathSummary;
 import io.ballerina.openapi.validator.ResourceValidator;
 import io.ballerina.openapi.validator.ResourceWithOperation;
+import io.ballerina.openapi.validator.ServiceValidationResult;
 import io.ballerina.openapi.validator.ServiceValidator;
 import io.ballerina.openapi.validator.error.MissingFieldInJsonSchema;
 import io.ballerina.openapi.validator.error.OpenapiServiceValidationError;
@@ -175,6 +178,20 @@ public class ServiceValidationTests {
 
     }
 
+    @Test(description = "test for repeated validation of a service not accumulating diagnostics")
+    public void testValidationStateIsPerService() {
+        Path servicePath = RES_DIR.resolve("ballerina/invalid/petstore.bal");
+        project = ValidatorTest.getProject(servicePath);
+        ServiceDeclarationNode serviceDeclarationNode = ValidatorTest.getServiceDeclarationNode(project);
+        SemanticModel semanticModel = ValidatorTest.getSemanticModel(project);
+        SyntaxTree syntaxTree = ValidatorTest.getSyntaxTree(project);
+        ServiceValidationResult first = ServiceValidator.validateService(serviceDeclarationNode, semanticModel,
+                syntaxTree, servicePath);
+        ServiceValidationResult second = ServiceValidator.validateService(serviceDeclarationNode, semanticModel,
+                syntaxTree, servicePath);
+        Assert.assertFalse(first.getDiagnostics().isEmpty());
+        Assert.assertEquals(second.getDiagnostics().size(), first.getDiagnostics().size());
+    }
 
     /**
      * OneOf - Invalid Scenario examples